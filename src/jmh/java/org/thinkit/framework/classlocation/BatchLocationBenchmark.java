@@ -0,0 +1,102 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.classlocation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Interners;
+import com.google.common.collect.MapMaker;
+
+/**
+ * 複数のクラスの基準ファイルパスをまとめて解決する処理を計測します。
+ * <p>
+ * 計測対象は実行時イメージ、ディレクトリおよびjarファイルに格納されたクラスを混在させた一覧です。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BatchLocationBenchmark {
+
+    /**
+     * 一覧に含めるクラス
+     */
+    private static final Class<?>[] CLASSES = { String.class, ArrayList.class, Collections.class, List.class,
+            TimeUnit.class, ClassLocation.class, ClassLocations.class, Location.class, LocationResult.class,
+            BatchLocationBenchmark.class, ImmutableList.class, ImmutableMap.class, Interners.class, MapMaker.class,
+            Benchmark.class, State.class };
+
+    /**
+     * 一覧に含める回数
+     */
+    private static final int REPEAT = 64;
+
+    /**
+     * 計測対象のクラス一覧
+     */
+    private List<Class<?>> classes;
+
+    @Setup
+    public void setUp() {
+
+        this.classes = new ArrayList<>(CLASSES.length * REPEAT);
+
+        for (int i = 0; i < REPEAT; i++) {
+            Collections.addAll(this.classes, CLASSES);
+        }
+    }
+
+    /**
+     * 単一のスレッドでまとめて解決する処理を計測します。
+     *
+     * @return 解決結果
+     */
+    @Benchmark
+    public ClassLocations locateAll() {
+        return ClassLocation.locateAll(this.classes);
+    }
+
+    /**
+     * 複数のスレッドでまとめて解決する処理を計測します。
+     *
+     * @return 解決結果
+     */
+    @Benchmark
+    public ClassLocations locateAllParallel() {
+        return ClassLocation.locateAllParallel(this.classes);
+    }
+}
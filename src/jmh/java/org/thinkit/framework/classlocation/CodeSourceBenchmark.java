@@ -0,0 +1,84 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.classlocation;
+
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link java.security.CodeSource} からクラスの基準ファイルパスを解決する経路を計測します。
+ * <p>
+ * 計測対象のクラスはディレクトリに格納された本ライブラリのクラス、およびjarファイルに格納された依存ライブラリのクラスです。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CodeSourceBenchmark {
+
+    /**
+     * 計測対象のクラス名
+     */
+    @Param({ "org.thinkit.framework.classlocation.ClassLocation", "com.google.common.collect.ImmutableList" })
+    public String className;
+
+    /**
+     * 計測対象のクラスに紐づく {@link ClassLocation}
+     */
+    private ClassLocation classLocation;
+
+    @Setup
+    public void setUp() throws ClassNotFoundException {
+        this.classLocation = ClassLocation.of(Class.forName(this.className));
+    }
+
+    /**
+     * 解決済みの結果を返却する経路を計測します。
+     *
+     * @return 基準ファイルパス
+     */
+    @Benchmark
+    public URL toUrl() {
+        return this.classLocation.toUrl();
+    }
+
+    /**
+     * キャッシュを使用せずに解決する経路を計測します。
+     *
+     * @return 基準ファイルパス
+     */
+    @Benchmark
+    public URL resolveUrl() {
+        return this.classLocation.resolveUrl();
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.classlocation;
+
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 複数のスレッドから同時に検索した場合の競合を計測します。
+ * <p>
+ * スレッド数は {@code -t} オプションで変更できます。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Threads(4)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ContentionBenchmark {
+
+    /**
+     * 計測対象のクラス
+     */
+    private static final Class<?>[] CLASSES = { String.class, ClassLocation.class, Location.class,
+            com.google.common.collect.ImmutableList.class, org.openjdk.jmh.annotations.Benchmark.class,
+            ContentionBenchmark.class };
+
+    /**
+     * スレッドごとの検索位置を保持します。
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        /**
+         * 検索位置
+         */
+        private int index;
+
+        @Setup
+        public void setUp() {
+            this.index = (int) (Thread.currentThread().getId() % CLASSES.length);
+        }
+
+        /**
+         * 次に検索するクラスを返却します。
+         *
+         * @return 次に検索するクラス
+         */
+        Class<?> next() {
+            final Class<?> clazz = CLASSES[this.index];
+            this.index = this.index + 1 == CLASSES.length ? 0 : this.index + 1;
+            return clazz;
+        }
+    }
+
+    /**
+     * 共有されたインスタンスから解決済みの結果を取得する経路を計測します。
+     *
+     * @param cursor 検索位置
+     * @return 基準ファイルパス
+     */
+    @Benchmark
+    public URL toUrl(final Cursor cursor) {
+        return ClassLocation.of(cursor.next()).toUrl();
+    }
+
+    /**
+     * クラス名から生成したインスタンスで共有キャッシュを参照する経路を計測します。
+     *
+     * @param cursor 検索位置
+     * @return 解決結果
+     */
+    @Benchmark
+    public LocationResult tryLocateByName(final Cursor cursor) {
+        final Class<?> clazz = cursor.next();
+        return ClassLocation.of(clazz.getName(), clazz.getClassLoader()).tryLocate();
+    }
+
+    /**
+     * キャッシュを使用せずに解決し、正規化のための共有領域で競合する経路を計測します。
+     *
+     * @param cursor 検索位置
+     * @return 基準ファイルパス
+     */
+    @Benchmark
+    public URL resolveUrl(final Cursor cursor) {
+        return ClassLocation.of(cursor.next()).resolveUrl();
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.classlocation;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link ClassLocation} のファクトリメソッドを計測します。
+ * <p>
+ * 割り当て量は {@code -prof gc} を指定して実行することで計測できます。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class FactoryBenchmark {
+
+    /**
+     * クラスから共有されたインスタンスを取得する経路を計測します。
+     *
+     * @return {@link ClassLocation}
+     */
+    @Benchmark
+    public ClassLocation ofClass() {
+        return ClassLocation.of(FactoryBenchmark.class);
+    }
+
+    /**
+     * クラス名からインスタンスを生成する経路を計測します。
+     *
+     * @return {@link ClassLocation}
+     */
+    @Benchmark
+    public ClassLocation ofName() {
+        return ClassLocation.of("org.thinkit.framework.classlocation.FactoryBenchmark",
+                FactoryBenchmark.class.getClassLoader());
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.classlocation;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 解決に失敗する検索を計測します。
+ * <p>
+ * 失敗を値として返却する場合と例外として送出する場合を比較し、例外の生成コストを計測します。
+ * 解決に失敗した結果をキャッシュしない場合とキャッシュする場合をそれぞれ計測し、探索自体のコストとキャッシュの効果を比較します。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class FailureBenchmark {
+
+    /**
+     * スタックトレースを取得しない軽量な例外を使用するか
+     */
+    @Param({ "false", "true" })
+    public boolean lightweight;
+
+    /**
+     * 解決に失敗した結果をキャッシュする期間 (ミリ秒)
+     */
+    @Param({ "0", "" + ClassLocationSettings.DEFAULT_NEGATIVE_CACHE_TTL_MILLIS })
+    public long negativeCacheTtlMillis;
+
+    /**
+     * 計測前の解決に失敗した結果をキャッシュする期間
+     */
+    private Duration previousNegativeCacheTtl;
+
+    /**
+     * 存在しないクラスに紐づく {@link ClassLocation}
+     */
+    private ClassLocation classLocation;
+
+    @Setup
+    public void setUp() {
+        ClassLocationSettings.setLightweightExceptions(this.lightweight);
+        this.previousNegativeCacheTtl = ClassLocationSettings.getNegativeCacheTtl();
+        ClassLocationSettings.setNegativeCacheTtl(Duration.ofMillis(this.negativeCacheTtlMillis));
+        LocationCache.invalidateFailures();
+        this.classLocation = ClassLocation.of("org.thinkit.framework.classlocation.Missing",
+                FailureBenchmark.class.getClassLoader());
+    }
+
+    @TearDown
+    public void tearDown() {
+        ClassLocationSettings.setLightweightExceptions(false);
+        ClassLocationSettings.setNegativeCacheTtl(this.previousNegativeCacheTtl);
+        LocationCache.invalidateFailures();
+    }
+
+    /**
+     * 失敗を値として返却する経路を計測します。
+     *
+     * @return 解決結果
+     */
+    @Benchmark
+    public LocationResult tryLocate() {
+        return this.classLocation.tryLocate();
+    }
+
+    /**
+     * 失敗を例外として送出する経路を計測します。
+     *
+     * @return 送出された例外
+     */
+    @Benchmark
+    public Object toUrl() {
+        try {
+            return this.classLocation.toUrl();
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.classlocation;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * クラスリソースから基準ファイルパスを解決する経路を計測します。
+ * <p>
+ * 計測対象のクラスは {@link java.security.CodeSource} の位置情報を持たないように定義されるため、
+ * ディレクトリまたはjarファイルからクラスリソースを検索する経路を必ず通過します。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ResourceFallbackBenchmark {
+
+    /**
+     * クラスリソースの格納形式
+     */
+    @Param({ "directory", "jar" })
+    public String container;
+
+    /**
+     * クラスリソースを格納する一時ディレクトリ
+     */
+    private Path root;
+
+    /**
+     * 計測対象のクラスを定義するクラスローダー
+     */
+    private URLClassLoader loader;
+
+    /**
+     * 計測対象のクラスに紐づく {@link ClassLocation}
+     */
+    private ClassLocation classLocation;
+
+    @Setup
+    public void setUp() throws IOException, ClassNotFoundException {
+
+        final String resourceName = Fixture.class.getName().replace('.', '/') + ".class";
+        final byte[] bytes;
+
+        try (InputStream in = Fixture.class.getClassLoader().getResourceAsStream(resourceName)) {
+            bytes = in.readAllBytes();
+        }
+
+        this.root = Files.createTempDirectory("class-location-jmh");
+        final URL url;
+
+        if ("jar".equals(this.container)) {
+            final Path jar = this.root.resolve("fixture.jar");
+
+            try (OutputStream out = Files.newOutputStream(jar); JarOutputStream jarOut = new JarOutputStream(out)) {
+                jarOut.putNextEntry(new JarEntry(resourceName));
+                jarOut.write(bytes);
+                jarOut.closeEntry();
+            }
+
+            url = jar.toUri().toURL();
+        } else {
+            final Path file = this.root.resolve(resourceName);
+            Files.createDirectories(file.getParent());
+            Files.write(file, bytes);
+            url = this.root.toUri().toURL();
+        }
+
+        this.loader = new DefiningClassLoader(url, Fixture.class.getName(), bytes);
+        this.classLocation = ClassLocation.of(this.loader.loadClass(Fixture.class.getName()));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+
+        this.loader.close();
+
+        try (Stream<Path> paths = Files.walk(this.root)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    /**
+     * 解決済みの結果を返却する経路を計測します。
+     *
+     * @return 基準ファイルパス
+     */
+    @Benchmark
+    public URL toUrl() {
+        return this.classLocation.toUrl();
+    }
+
+    /**
+     * キャッシュを使用せずにクラスリソースから解決する経路を計測します。
+     *
+     * @return 基準ファイルパス
+     */
+    @Benchmark
+    public URL resolveUrl() {
+        return this.classLocation.resolveUrl();
+    }
+
+    /**
+     * 計測対象のクラスです。
+     */
+    public static final class Fixture {
+    }
+
+    /**
+     * 位置情報を持たない {@link java.security.CodeSource} でクラスを定義するクラスローダーです。
+     */
+    private static final class DefiningClassLoader extends URLClassLoader {
+
+        /**
+         * 定義するクラスのバイナリ名
+         */
+        private final String binaryName;
+
+        /**
+         * 定義するクラスのバイト列
+         */
+        private final byte[] bytes;
+
+        /**
+         * コンストラクタ
+         *
+         * @param url        クラスリソースの検索先
+         * @param binaryName 定義するクラスのバイナリ名
+         * @param bytes      定義するクラスのバイト列
+         */
+        DefiningClassLoader(final URL url, final String binaryName, final byte[] bytes) {
+            super(new URL[] { url }, ClassLoader.getPlatformClassLoader());
+            this.binaryName = binaryName;
+            this.bytes = bytes;
+        }
+
+        @Override
+        protected Class<?> findClass(final String name) throws ClassNotFoundException {
+
+            if (this.binaryName.equals(name)) {
+                return super.defineClass(name, this.bytes, 0, this.bytes.length);
+            }
+
+            return super.findClass(name);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.classlocation;
+
+/**
+ * {@link CacheEntry} を参照された順に並べる双方向リストです。
+ * <p>
+ * 先頭が最も新しく参照されたエントリ、末尾が最も古く参照されたエントリです。リンクはエントリ自身が保持するため、
+ * 追加、削除および先頭への移動は要素を生成せずに定数時間で行われます。スレッドセーフではありません。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+final class AccessOrderList {
+
+    /**
+     * 先頭のエントリ
+     */
+    private CacheEntry head;
+
+    /**
+     * 末尾のエントリ
+     */
+    private CacheEntry tail;
+
+    /**
+     * エントリ数
+     */
+    private int size;
+
+    /**
+     * エントリ数を返却します。
+     *
+     * @return エントリ数
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * 末尾のエントリを返却します。
+     *
+     * @return 末尾のエントリ。リストが空の場合は {@code null}
+     */
+    CacheEntry peekLast() {
+        return this.tail;
+    }
+
+    /**
+     * 引数として渡されたエントリを先頭へ追加します。
+     *
+     * @param entry いずれのリストにも属していないエントリ
+     */
+    void addFirst(final CacheEntry entry) {
+
+        entry.list = this;
+        entry.previous = null;
+        entry.next = this.head;
+
+        if (this.head == null) {
+            this.tail = entry;
+        } else {
+            this.head.previous = entry;
+        }
+
+        this.head = entry;
+        this.size++;
+    }
+
+    /**
+     * 引数として渡されたエントリを先頭へ移動します。
+     *
+     * @param entry このリストに属しているエントリ
+     */
+    void moveToFront(final CacheEntry entry) {
+        if (entry != this.head) {
+            this.remove(entry);
+            this.addFirst(entry);
+        }
+    }
+
+    /**
+     * 末尾のエントリを取り除いて返却します。
+     *
+     * @return 取り除いたエントリ。リストが空の場合は {@code null}
+     */
+    CacheEntry removeLast() {
+
+        final CacheEntry entry = this.tail;
+
+        if (entry != null) {
+            this.remove(entry);
+        }
+
+        return entry;
+    }
+
+    /**
+     * 引数として渡されたエントリを取り除きます。
+     *
+     * @param entry このリストに属しているエントリ
+     */
+    void remove(final CacheEntry entry) {
+
+        if (entry.previous == null) {
+            this.head = entry.next;
+        } else {
+            entry.previous.next = entry.next;
+        }
+
+        if (entry.next == null) {
+            this.tail = entry.previous;
+        } else {
+            entry.next.previous = entry.previous;
+        }
+
+        entry.list = null;
+        entry.previous = null;
+        entry.next = null;
+        this.size--;
+    }
+}
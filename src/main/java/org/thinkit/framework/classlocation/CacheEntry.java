@@ -0,0 +1,119 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.classlocation;
+
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * {@link LocationCache} が保持する解決結果のエントリです。
+ * <p>
+ * 参照順序を管理するリンクは {@link AccessOrderList} が操作し、 {@link LocationCache} のロックにより保護されます。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+final class CacheEntry {
+
+    /**
+     * エントリを保持している領域
+     */
+    final ConcurrentMap<String, CacheEntry> owner;
+
+    /**
+     * エントリに紐づくクラスローダーの説明
+     * <p>
+     * 同一のクラスローダーに紐づくエントリは同一の文字列を共有します。
+     */
+    final String loader;
+
+    /**
+     * クラスのバイナリ名
+     */
+    final String binaryName;
+
+    /**
+     * クラスローダーとバイナリ名から算出したハッシュ値
+     */
+    final int hash;
+
+    /**
+     * 解決結果
+     */
+    final LocationResult result;
+
+    /**
+     * 解決に失敗した結果の有効期限({@link System#nanoTime()} 基準)。解決に成功した結果の場合は使用しない
+     */
+    final long expiresAt;
+
+    /**
+     * エントリが属している参照順序のリスト。いずれのリストにも属していない場合は {@code null}
+     */
+    AccessOrderList list;
+
+    /**
+     * 直前のエントリ
+     */
+    CacheEntry previous;
+
+    /**
+     * 直後のエントリ
+     */
+    CacheEntry next;
+
+    /**
+     * コンストラクタ
+     *
+     * @param owner      エントリを保持している領域
+     * @param loader     エントリに紐づくクラスローダーの説明
+     * @param binaryName クラスのバイナリ名
+     * @param hash       クラスローダー、バイナリ名および検索の種類から算出したハッシュ値
+     * @param result     解決結果
+     * @param expiresAt  解決に失敗した結果の有効期限({@link System#nanoTime()} 基準)
+     */
+    CacheEntry(final ConcurrentMap<String, CacheEntry> owner, final String loader, final String binaryName,
+            final int hash, final LocationResult result, final long expiresAt) {
+        this.owner = owner;
+        this.loader = loader;
+        this.binaryName = binaryName;
+        this.hash = hash;
+        this.result = result;
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * 解決結果が有効期限切れか判定します。解決に成功した結果は期限切れになりません。
+     *
+     * @param now 現在時刻({@link System#nanoTime()} 基準)
+     * @return 解決に失敗した結果で有効期限を過ぎている場合は {@code true} 、それ以外は {@code false}
+     */
+    boolean isExpired(final long now) {
+        return !this.result.isSuccess() && now - this.expiresAt >= 0;
+    }
+
+    /**
+     * 引数として渡されたクラスローダー、バイナリ名および検索の種類のハッシュ値を返却します。
+     *
+     * @param loader     クラスローダー。ブートストラップクラスローダーの場合は {@code null}
+     * @param binaryName クラスのバイナリ名
+     * @param byName     クラス名を基にした検索の場合は {@code true} 、クラスを基にした検索の場合は {@code false}
+     * @return ハッシュ値
+     */
+    static int hash(final ClassLoader loader, final String binaryName, final boolean byName) {
+        final int hash = 31 * System.identityHashCode(loader) + binaryName.hashCode();
+        return byName ? ~hash : hash;
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.classlocation;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 解決結果のキャッシュから取り除かれたエントリを記録するJFRイベントです。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+@Name("org.thinkit.framework.classlocation.CacheEviction")
+@Label("Class Location Cache Eviction")
+@Category("Class Location")
+@Description("Entries removed from the class location cache")
+@StackTrace(false)
+final class CacheEvictionEvent extends Event {
+
+    /**
+     * クラスローダー
+     */
+    @Label("Class Loader")
+    String classLoader;
+
+    /**
+     * 取り除かれたエントリ数
+     */
+    @Label("Entries")
+    int entries;
+
+    /**
+     * 取り除かれた原因
+     */
+    @Label("Cause")
+    String cause;
+}
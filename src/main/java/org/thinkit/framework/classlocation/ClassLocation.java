@@ -15,11 +15,22 @@
 package org.thinkit.framework.classlocation;
 
 import java.io.File;
-import java.net.MalformedURLException;
+import java.lang.reflect.Proxy;
+import java.net.URI;
 import java.net.URL;
+import java.nio.file.Path;
+import java.security.CodeSource;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 
+import org.thinkit.framework.classlocation.catalog.FailureReason;
 import org.thinkit.framework.classlocation.catalog.PathPrefix;
 import org.thinkit.framework.classlocation.catalog.PathSuffix;
+import org.thinkit.framework.classlocation.catalog.ResolutionPath;
+import org.thinkit.framework.classlocation.spi.LocationResolver;
 
 import lombok.EqualsAndHashCode;
 import lombok.NonNull;
@@ -27,6 +38,8 @@ import lombok.ToString;
 
 /**
  * クラスファイルが格納されている領域を特定します。
+ * <p>
+ * ラムダ式などの隠しクラスや動的プロキシクラスのようにクラスリソースを持たないクラスは、生成元のクラスまたはプロキシ対象のインタフェースが格納されている領域に帰属します。
  *
  * <pre>
  * クラスが格納されている領域へのURLを取得する場合:
@@ -36,30 +49,105 @@ import lombok.ToString;
  * </pre>
  *
  * <pre>
+ * クラスをロードせずにクラス名からクラスが格納されている領域へのURLを取得する場合:
+ * <code>
+ * Url classUrl = ClassLocation.of("com.example.Hoge", classLoader).toUrl();
+ * </code>
+ * </pre>
+ *
+ * <pre>
  * クラスファイルに紐づくパッケージのルートまで {@link File} オブジェクトを取得する場合:
  * <code>
  * File classFile = ClassLocation.of(clazz).toFile();
  * </code>
  * </pre>
  *
+ * <pre>
+ * クラスが格納されている領域を {@link Map} のキーとして使用する場合:
+ * <code>
+ * Location classLocation = ClassLocation.of(clazz).toLocation();
+ * </code>
+ * </pre>
+ *
+ * <pre>
+ * クラスファイルに紐づくパッケージのルートまで {@link Path} オブジェクトを取得する場合:
+ * <code>
+ * Path classPath = ClassLocation.of(clazz).toPath();
+ * </code>
+ * </pre>
+ *
  * @author Kato Shinya
  * @since 1.0
  * @version 1.0
  */
-@ToString
-@EqualsAndHashCode
+@ToString(onlyExplicitlyIncluded = true)
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
 public final class ClassLocation {
 
+    /**
+     * 一括検索を並列に処理する際の既定の閾値
+     * <p>
+     * 検索対象のクラス数がこの値以下の場合は逐次処理で解決します。
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 512;
+
+    /**
+     * ラムダ式から生成されたクラスの名前に含まれる区切り文字
+     */
+    private static final String LAMBDA_SEPARATOR = "$$Lambda";
+
+    /**
+     * クラス毎に正規化された {@link ClassLocation} インスタンスを保持するキャッシュ
+     * <p>
+     * {@link ClassValue} を使用しているため、キャッシュされたインスタンスはクラスと同じ寿命で管理されます。
+     * クラスローダーがアンロードされた場合はキャッシュされたインスタンスも同時に破棄されます。
+     */
+    private static final ClassValue<ClassLocation> INSTANCES = new ClassValue<ClassLocation>() {
+
+        @Override
+        protected ClassLocation computeValue(Class<?> type) {
+            return new ClassLocation(type);
+        }
+    };
+
     /**
      * 検索対象クラス
+     * <p>
+     * クラス名を基に生成されたインスタンスの場合は {@code null} です。
      */
-    private Class<?> clazz;
+    @EqualsAndHashCode.Include
+    private final Class<?> clazz;
 
     /**
-     * デフォルトコンストラクタ
+     * 検索対象クラスのバイナリ名
      */
-    private ClassLocation() {
-    }
+    @ToString.Include
+    @EqualsAndHashCode.Include
+    private final String binaryName;
+
+    /**
+     * 検索対象クラスのクラスローダー
+     * <p>
+     * ブートストラップクラスローダーの場合は {@code null} です。
+     */
+    @ToString.Include
+    @EqualsAndHashCode.Include
+    private final ClassLoader loader;
+
+    /**
+     * 解決に成功した結果
+     * <p>
+     * 初回の {@link #tryLocate()} 呼び出しで解決に成功した時に設定されます。解決処理は冪等であるため、複数のスレッドから同時に設定された場合でも結果は変わりません。
+     * {@link LocationCache#clear()} によりキャッシュの世代が進んだ場合は無効となります。
+     */
+    private volatile Memo memo;
+
+    /**
+     * クラスリソース名のキャッシュ
+     * <p>
+     * 初回の参照時に生成され、以降の検索では同一の文字列が再利用されます。
+     */
+    private volatile String resourceName;
 
     /**
      * コンストラクタ
@@ -70,18 +158,183 @@ public final class ClassLocation {
      */
     private ClassLocation(@NonNull final Class<?> clazz) {
         this.clazz = clazz;
+        this.binaryName = clazz.getName();
+        this.loader = clazz.getClassLoader();
+    }
+
+    /**
+     * コンストラクタ
+     *
+     * @param binaryName 検索対象クラスのバイナリ名
+     * @param loader     検索対象クラスのクラスローダー
+     *
+     * @exception NullPointerException 引数として渡された {@code binaryName} が {@code null} の場合
+     */
+    private ClassLocation(@NonNull final String binaryName, final ClassLoader loader) {
+        this.clazz = null;
+        this.binaryName = binaryName;
+        this.loader = loader;
     }
 
     /**
-     * 引数として渡された {@code clazz} を基に {@link ClassLocation} クラスの新しいインスタンスを生成し返却します。
+     * 引数として渡された {@code clazz} に紐づく {@link ClassLocation} クラスのインスタンスを返却します。
+     * <p>
+     * 返却されるインスタンスはクラス毎に正規化された不変のインスタンスです。同一のクラスに対する2回目以降の呼び出しでは新しいインスタンスを生成せず、
+     * 初回に生成したインスタンスを返却します。
      *
      * @param clazz 検索対象のクラス
-     * @return {@link ClassLocation} クラスの新しいインスタンス
+     * @return 引数として渡された {@code clazz} に紐づく {@link ClassLocation} クラスのインスタンス
      *
      * @exception NullPointerException 引数として {@code null} が渡された場合
      */
     public static ClassLocation of(@NonNull final Class<?> clazz) {
-        return new ClassLocation(clazz);
+        return INSTANCES.get(clazz);
+    }
+
+    /**
+     * 引数として渡された {@code binaryName} と {@code loader} に紐づく {@link ClassLocation} クラスのインスタンスを返却します。
+     * <p>
+     * 返却されるインスタンスはクラスをロードせず、引数として渡された {@code loader} からクラスリソースを検索することで領域を解決します。
+     * そのため、クラスの初期化処理などの副作用は発生しません。解決結果はクラスローダー毎にキャッシュされ、
+     * 同一のクラスローダーとクラス名に対する2回目以降の検索は再解決を行いません。解決に失敗した結果は
+     * {@link ClassLocationSettings#getNegativeCacheTtl()} の期間のみキャッシュされます。
+     *
+     * @param binaryName 検索対象クラスのバイナリ名 (例: {@code "com.example.Hoge"})
+     * @param loader     検索対象クラスのクラスローダー。ブートストラップクラスローダーの場合は {@code null}
+     * @return 引数として渡された {@code binaryName} と {@code loader} に紐づく {@link ClassLocation} クラスのインスタンス
+     *
+     * @exception NullPointerException 引数として渡された {@code binaryName} が {@code null} の場合
+     */
+    public static ClassLocation of(@NonNull final String binaryName, final ClassLoader loader) {
+        return new ClassLocation(binaryName, loader);
+    }
+
+    /**
+     * 引数として渡された {@code loader} に紐づく解決に失敗した結果のキャッシュを破棄します。
+     * <p>
+     * クラスローダーへクラスリソースを追加した場合など、以前は失敗した検索を
+     * {@link ClassLocationSettings#getNegativeCacheTtl()} の経過を待たずに再試行させる場合に使用します。
+     *
+     * @param loader クラスローダー。ブートストラップクラスローダーの場合は {@code null}
+     */
+    public static void invalidateFailures(final ClassLoader loader) {
+        LocationCache.invalidateFailures(loader);
+    }
+
+    /**
+     * 全てのクラスローダーに紐づく解決に失敗した結果のキャッシュを破棄します。
+     *
+     * @see #invalidateFailures(ClassLoader)
+     */
+    public static void invalidateFailures() {
+        LocationCache.invalidateFailures();
+    }
+
+    /**
+     * 引数として渡された {@code classes} の基準ファイルパスを一括で解決し、格納されている領域毎に分類した結果を返却します。
+     * <p>
+     * 同一の {@link CodeSource} に属するクラスの基準ファイルパスは一度だけ解決されます。各クラスの基準ファイルパスの形式は {@link #toUrl()}
+     * と同様です。
+     *
+     * @param classes 検索対象のクラス
+     * @return 格納されている領域毎に分類された検索結果
+     *
+     * @throws InvalidClassLocationException いずれかのクラスの基準ファイルパスの解決に失敗した場合
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合、
+     *                                 または、検索対象のクラスに {@code null} が含まれている場合
+     *
+     * @see #toUrl()
+     */
+    public static ClassLocations locateAll(@NonNull final Collection<? extends Class<?>> classes) {
+
+        final ClassLocationGrouper grouper = new ClassLocationGrouper();
+
+        for (Class<?> clazz : classes) {
+            grouper.add(clazz);
+        }
+
+        return grouper.toClassLocations();
+    }
+
+    /**
+     * 引数として渡された {@code classes} の基準ファイルパスを {@link ForkJoinPool#commonPool()}
+     * を使用して並列に解決し、格納されている領域毎に分類した結果を返却します。
+     * <p>
+     * 検索対象のクラス数が {@link #DEFAULT_PARALLEL_THRESHOLD} 以下の場合は逐次処理で解決します。返却される結果は
+     * {@link #locateAll(Collection)} と同一です。
+     *
+     * @param classes 検索対象のクラス
+     * @return 格納されている領域毎に分類された検索結果
+     *
+     * @throws InvalidClassLocationException いずれかのクラスの基準ファイルパスの解決に失敗した場合
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合、
+     *                                 または、検索対象のクラスに {@code null} が含まれている場合
+     *
+     * @see #locateAll(Collection)
+     */
+    public static ClassLocations locateAllParallel(@NonNull final Collection<? extends Class<?>> classes) {
+        return locateAllParallel(classes, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * 引数として渡された {@code classes} の基準ファイルパスを引数として渡された {@code pool}
+     * を使用して並列に解決し、格納されている領域毎に分類した結果を返却します。
+     * <p>
+     * 検索対象のクラス数が {@link #DEFAULT_PARALLEL_THRESHOLD} 以下の場合は逐次処理で解決します。返却される結果は
+     * {@link #locateAll(Collection)} と同一です。
+     *
+     * @param classes 検索対象のクラス
+     * @param pool    並列処理に使用する {@link ForkJoinPool}
+     * @return 格納されている領域毎に分類された検索結果
+     *
+     * @throws InvalidClassLocationException いずれかのクラスの基準ファイルパスの解決に失敗した場合
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合、
+     *                                 または、検索対象のクラスに {@code null} が含まれている場合
+     *
+     * @see #locateAll(Collection)
+     */
+    public static ClassLocations locateAllParallel(@NonNull final Collection<? extends Class<?>> classes,
+            @NonNull final ForkJoinPool pool) {
+        return locateAllParallel(classes, pool, DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * 引数として渡された {@code classes} の基準ファイルパスを引数として渡された {@code pool}
+     * を使用して並列に解決し、格納されている領域毎に分類した結果を返却します。
+     * <p>
+     * 検索対象のクラス数が引数として渡された {@code threshold} 以下の場合は逐次処理で解決します。また、並列処理時も
+     * {@code threshold} 以下の大きさに分割された範囲は逐次処理で解決します。返却される結果は {@link #locateAll(Collection)}
+     * と同一です。
+     *
+     * @param classes   検索対象のクラス
+     * @param pool      並列処理に使用する {@link ForkJoinPool}
+     * @param threshold 逐次処理へ切り替える検索対象のクラス数
+     * @return 格納されている領域毎に分類された検索結果
+     *
+     * @throws InvalidClassLocationException いずれかのクラスの基準ファイルパスの解決に失敗した場合
+     *
+     * @exception NullPointerException     引数として {@code null} が渡された場合、
+     *                                     または、検索対象のクラスに {@code null} が含まれている場合
+     * @exception IllegalArgumentException 引数として渡された {@code threshold} が {@code 1} 未満の場合
+     *
+     * @see #locateAll(Collection)
+     */
+    public static ClassLocations locateAllParallel(@NonNull final Collection<? extends Class<?>> classes,
+            @NonNull final ForkJoinPool pool, final int threshold) {
+
+        if (threshold < 1) {
+            throw new IllegalArgumentException(String.format("Threshold must be positive but was %d", threshold));
+        }
+
+        if (classes.size() <= threshold) {
+            return locateAll(classes);
+        }
+
+        final List<? extends Class<?>> snapshot = new ArrayList<>(classes);
+        return pool.invoke(new ClassLocationTask(snapshot, 0, snapshot.size(), threshold)).toClassLocations();
     }
 
     /**
@@ -114,58 +367,579 @@ public final class ClassLocation {
      * >> <code>"file:/path/to"</code>
      * </pre>
      *
+     * <p>
+     * 解決したURLはインスタンスに保持されるため、同一のクラスに対する2回目以降の呼び出しは再解決を行いません。
+     * キャッシュを使用せずに毎回解決する必要がある場合は {@link #resolveUrl()} を使用してください。
+     *
      * @return {@link ClassLocation} クラスのインスタンス生成時に渡されたクラスの基準ファイルパス
      *
      * @throws InvalidClassLocationException クラス名に紐づくクラスリソースが存在しない場合、
      *                                       または、クラスから取得したURLの接尾語が不正な場合、
      *                                       または、クラスから取得したURLを {@link URL}
      *                                       オブジェクトへ変換する処理が失敗した場合
+     *
+     * @see #resolveUrl()
      */
     public URL toUrl() {
+        return this.toLocation().toUrl();
+    }
+
+    /**
+     * {@link ClassLocation} クラスのインスタンス生成時に渡されたクラスの基準ファイルパスを {@link URI} オブジェクトとして返却します。
+     * <p>
+     * 返却される値は {@link #toUrl()} と同一の領域を示します。 {@link URL} を経由せずに変換するため、
+     * {@link URL#equals(Object)} および {@link URL#hashCode()} によるホスト名の解決は発生しません。
+     *
+     * @return {@link ClassLocation} クラスのインスタンス生成時に渡されたクラスの基準ファイルパスを示す {@link URI} オブジェクト
+     *
+     * @throws InvalidClassLocationException 基準ファイルパスの解決に失敗した場合、
+     *                                       または、基準ファイルパスを {@link URI} オブジェクトへ変換する処理が失敗した場合
+     *
+     * @see #toLocation()
+     */
+    public URI toUri() {
+        return this.toLocation().toUri();
+    }
+
+    /**
+     * {@link ClassLocation} クラスのインスタンス生成時に渡されたクラスが格納されている領域を返却します。
+     * <p>
+     * 返却される {@link Location} は {@link URL} を経由せずに生成された値であり、低コストで等価性の判定とハッシュ値の計算を行えます。
+     * 解決した領域はインスタンスに保持されるため、同一のクラスに対する2回目以降の呼び出しは再解決を行いません。
+     *
+     * @return {@link ClassLocation} クラスのインスタンス生成時に渡されたクラスが格納されている領域
+     *
+     * @throws ClassResourceNotFoundException クラス名に紐づくクラスリソースが存在しない場合
+     * @throws InvalidClassLocationException  クラスから取得したURLの接尾語が不正な場合、
+     *                                        または、クラスから取得したURLの形式が不正な場合
+     *
+     * @see #tryLocate()
+     */
+    public Location toLocation() {
+        return this.tryLocate().locationOrElseThrow();
+    }
+
+    /**
+     * {@link ClassLocation} クラスのインスタンス生成時に渡されたクラスが格納されている領域の解決結果を返却します。
+     * <p>
+     * このメソッドは解決に失敗した場合でも例外を送出せず、失敗理由を保持する {@link LocationResult} を返却します。
+     * 解決に成功した結果はインスタンスおよび {@link LocationCache} に保持されるため、同一のクラスに対する2回目以降の呼び出しは再解決を行いません。
+     * 解決に失敗した結果も {@link ClassLocationSettings#getNegativeCacheTtl()} の期間は保持され、期間内の呼び出しはキャッシュした失敗理由を返却します。
+     *
+     * @return {@link ClassLocation} クラスのインスタンス生成時に渡されたクラスが格納されている領域の解決結果
+     *
+     * @see #toLocation()
+     */
+    public LocationResult tryLocate() {
+
+        final int generation = LocationCache.generation();
+        final Memo memo = this.memo;
+
+        if (memo != null && memo.generation == generation) {
+            LocationMetrics.hit();
+            return memo.result;
+        }
+
+        LocationResult result = LocationCache.get(this.loader, this.binaryName, this.clazz == null);
+
+        if (result != null) {
+            LocationMetrics.hit();
+
+            if (!result.isSuccess()) {
+                return result;
+            }
+        } else {
+            LocationMetrics.miss();
+            result = this.resolve();
+            LocationCache.put(this.loader, this.binaryName, this.clazz == null, result);
+
+            if (!result.isSuccess()) {
+                return result;
+            }
+        }
+
+        this.memo = new Memo(result, generation);
+        return result;
+    }
+
+    /**
+     * {@link ClassLocation} クラスのインスタンス生成時に渡されたクラスの基準ファイルパスの解決結果を返却します。
+     * <p>
+     * このメソッドは解決に失敗した場合でも例外を送出せず、失敗理由を保持する {@link LocationResult} を返却します。
+     * {@link #tryLocate()} と異なり、解決した領域を {@link URL} オブジェクトへ変換できることまで検証します。
+     *
+     * @return {@link ClassLocation} クラスのインスタンス生成時に渡されたクラスの基準ファイルパスの解決結果
+     *
+     * @see #toUrl()
+     * @see #tryLocate()
+     */
+    public LocationResult tryToUrl() {
+
+        final LocationResult result = this.tryLocate();
+
+        if (!result.isSuccess()) {
+            return result;
+        }
+
+        final Location location = result.locationOrElseThrow();
+
+        try {
+            location.toUrl();
+        } catch (InvalidClassLocationException e) {
+            return LocationResult.failure(FailureReason.MALFORMED_URL, location.toString(), e.getCause());
+        }
+
+        return result;
+    }
+
+    /**
+     * {@link ClassLocation} クラスのインスタンス生成時に渡されたクラスの基準ファイルパスを {@link File} オブジェクトとして返却します。
+     * <p>
+     * 基準ファイルパスのパーセントエンコーディングを復号したファイルパスを返却します。変換結果は {@link Location} に保持されるため、
+     * 同一の領域に対する2回目以降の呼び出しは再変換を行いません。
+     *
+     * @return {@link ClassLocation} クラスのインスタンス生成時に渡されたクラスの基準ファイルパスを示す {@link File} オブジェクト
+     *
+     * @throws InvalidClassLocationException 基準ファイルパスの解決に失敗した場合、
+     *                                       または、基準ファイルパスのスキームが {@code "file"} ではない場合
+     *
+     * @see Location#toFile()
+     */
+    public File toFile() {
+        return this.toLocation().toFile();
+    }
 
-        final URL resourceLocation = this.clazz.getProtectionDomain().getCodeSource().getLocation();
+    /**
+     * {@link ClassLocation} クラスのインスタンス生成時に渡されたクラスの基準ファイルパスを {@link Path} オブジェクトとして返却します。
+     * <p>
+     * 基準ファイルパスのパーセントエンコーディングを復号したファイルパスを返却します。{@code "file"}
+     * 以外のスキームは対応する {@link java.nio.file.FileSystem} が利用可能な場合に限り変換されます。変換結果は {@link Location}
+     * に保持されるため、同一の領域に対する2回目以降の呼び出しは再変換を行いません。
+     *
+     * @return {@link ClassLocation} クラスのインスタンス生成時に渡されたクラスの基準ファイルパスを示す {@link Path} オブジェクト
+     *
+     * @throws InvalidClassLocationException 基準ファイルパスの解決に失敗した場合、
+     *                                       または、基準ファイルパスのスキームに対応する
+     *                                       {@link java.nio.file.FileSystem} が存在しない場合
+     *
+     * @see Location#toPath()
+     */
+    public Path toPath() {
+        return this.toLocation().toPath();
+    }
+
+    /**
+     * キャッシュを使用せずに {@link ClassLocation} クラスのインスタンス生成時に渡されたクラスの基準ファイルパスを解決し返却します。
+     * <p>
+     * 返却される値の形式は {@link #toUrl()} と同様です。このメソッドは呼び出される度に解決処理を行い、キャッシュの内容を参照も更新もしません。
+     *
+     * @return {@link ClassLocation} クラスのインスタンス生成時に渡されたクラスの基準ファイルパス
+     *
+     * @throws InvalidClassLocationException クラス名に紐づくクラスリソースが存在しない場合、
+     *                                       または、クラスから取得したURLの接尾語が不正な場合、
+     *                                       または、クラスから取得したURLを {@link URL}
+     *                                       オブジェクトへ変換する処理が失敗した場合
+     *
+     * @see #toUrl()
+     */
+    public URL resolveUrl() {
+        return this.resolve().orElseThrow();
+    }
+
+    /**
+     * {@link ClassLocation} クラスのインスタンス生成時に渡されたクラスの基準ファイルパスを解決します。
+     * <p>
+     * 解決に失敗した場合は例外を送出せず、失敗理由を保持する {@link LocationResult} を返却します。
+     * {@link CodeSource} の位置のスキームに対応する {@link LocationResolver} が登録されている場合は、
+     * クラスリソースを検索しその {@link LocationResolver} に解決を委譲します。 {@link CodeSource}
+     * を持たない動的に生成されたクラスの場合は、 {@link #host()} が返却するクラスに解決を委譲します。
+     *
+     * @return {@link ClassLocation} クラスのインスタンス生成時に渡されたクラスの基準ファイルパスの解決結果
+     */
+    private LocationResult resolve() {
+
+        final long start = LocationMetrics.start();
+        final LookupEvent event = LocationEvents.beginLookup();
+
+        if (this.clazz == null) {
+            return this.record(ResolutionPath.RESOURCE, start, event, this.resolveByResource());
+        }
+
+        if (this.clazz.isArray()) {
+            return this.record(ResolutionPath.DELEGATE, start, event, of(this.elementType()).tryLocate());
+        }
+
+        final CodeSource codeSource = this.clazz.getProtectionDomain().getCodeSource();
+
+        if (codeSource != null && codeSource.getLocation() != null) {
+            if (resolverOf(codeSource.getLocation()) != null) {
+                final LocationResult result = this.resolveByResource();
+
+                if (result.isSuccess()) {
+                    return this.record(ResolutionPath.RESOURCE, start, event, result);
+                }
+            }
+
+            return this.record(ResolutionPath.CODE_SOURCE, start, event,
+                    LocationResult.success(LocationInterner.of(codeSource)));
+        }
+
+        final ClassLocation host = this.host();
+
+        if (host != null) {
+            return this.record(ResolutionPath.DELEGATE, start, event, host.tryLocate());
+        }
+
+        final Module module = this.clazz.getModule();
+
+        if (module.isNamed()) {
+            final Location moduleLocation = ModuleLocations.of(module);
+
+            if (moduleLocation != null) {
+                return this.record(ResolutionPath.MODULE, start, event, LocationResult.success(moduleLocation));
+            }
+        }
+
+        return this.record(ResolutionPath.RESOURCE, start, event, this.resolveByResource());
+    }
+
+    /**
+     * 解決経路と処理時間を統計情報およびJFRイベントとして記録し、引数として渡された {@code result} をそのまま返却します。
+     *
+     * @param path   解決経路
+     * @param start  {@link LocationMetrics#start()} が返却した開始時刻
+     * @param event  {@link LocationEvents#beginLookup()} が返却したイベント
+     * @param result 解決結果
+     * @return 引数として渡された {@code result}
+     */
+    private LocationResult record(final ResolutionPath path, final long start, final LookupEvent event,
+            final LocationResult result) {
+        LocationEvents.lookup(event, this.binaryName, this.loader, path, result);
+        return LocationMetrics.record(path, start, result);
+    }
+
+    /**
+     * クラスのバイナリ名からクラスリソースを検索し、クラスが格納されている領域を解決します。
+     * <p>
+     * クラスリソース名はバイナリ名を基に生成するため、ネストしたクラスや匿名クラス、ローカルクラスの場合も
+     * {@code "Outer$Inner.class"} のようにクラスファイルの実際の名前で検索されます。
+     *
+     * @return クラスが格納されている領域の解決結果
+     */
+    private LocationResult resolveByResource() {
 
-        if (resourceLocation != null) {
-            return resourceLocation;
+        final String resourceName = this.resourceName();
+        final FallbackEvent event = LocationEvents.beginFallback();
+
+        final URL classResource;
+
+        if (this.loader != null) {
+            classResource = this.loader.getResource(resourceName);
+        } else if (this.clazz != null) {
+            classResource = this.clazz.getResource('/' + resourceName);
+        } else {
+            classResource = ClassLoader.getPlatformClassLoader().getResource(resourceName);
         }
 
-        final String className = this.clazz.getSimpleName() + PathSuffix.clazz();
-        final URL classResource = this.clazz.getResource(className);
+        LocationEvents.fallback(event, this.binaryName, resourceName, classResource);
 
         if (classResource == null) {
-            throw new ClassResourceNotFoundException(String.format("%s not found", className));
+            return LocationResult.failure(FailureReason.CLASS_RESOURCE_NOT_FOUND, resourceName);
+        }
+
+        return this.locate(classResource, resourceName);
+    }
+
+    /**
+     * クラスリソース名を返却します。
+     * <p>
+     * クラスリソース名はインスタンスごとに一度だけ生成されます。並行して初回の参照が行われた場合は複数回生成される可能性がありますが、
+     * 生成される値は同一のため問題ありません。
+     *
+     * @return クラスリソース名
+     */
+    private String resourceName() {
+
+        String name = this.resourceName;
+
+        if (name == null) {
+            name = toResourceName(this.binaryName);
+            this.resourceName = name;
+        }
+
+        return name;
+    }
+
+    /**
+     * 引数として渡されたバイナリ名をクラスリソース名へ変換します。
+     * <p>
+     * 区切り文字の置換と接尾語の連結を単一の文字配列上で行うため、中間の文字列を生成しません。
+     *
+     * @param binaryName バイナリ名
+     * @return クラスリソース名
+     */
+    private static String toResourceName(final String binaryName) {
+
+        final String suffix = PathSuffix.clazz();
+        final int length = binaryName.length();
+        final char[] chars = new char[length + suffix.length()];
+
+        binaryName.getChars(0, length, chars, 0);
+        suffix.getChars(0, suffix.length(), chars, length);
+
+        for (int i = 0; i < length; i++) {
+            if (chars[i] == '.') {
+                chars[i] = '/';
+            }
+        }
+
+        return new String(chars);
+    }
+
+    /**
+     * クラスリソースを持たない動的に生成されたクラスの領域を代表するクラスの {@link ClassLocation} を返却します。
+     * <p>
+     * {@link CodeSource} を持たないクラスの解決時にのみ呼び出されます。
+     * 動的プロキシクラスの場合はプロキシ対象のインタフェースを、ラムダ式などの隠しクラスの場合はネストホストを代表するクラスとします。
+     * ネストホストを特定できない隠しクラスの場合は、クラス名から生成元のクラス名を特定しクラスをロードせずに検索します。
+     * インタフェースを持たない動的プロキシクラスは代表するクラスが存在しないため、通常の解決処理を行います。
+     *
+     * @return 領域を代表するクラスの {@link ClassLocation} 。動的に生成されたクラスではない場合、
+     *         または、代表するクラスが存在しない場合は {@code null}
+     */
+    private ClassLocation host() {
+
+        if (Proxy.isProxyClass(this.clazz)) {
+            final Class<?>[] interfaces = this.clazz.getInterfaces();
+
+            for (Class<?> candidate : interfaces) {
+                final ClassLoader candidateLoader = candidate.getClassLoader();
+
+                if (candidateLoader != null && candidateLoader != ClassLoader.getPlatformClassLoader()) {
+                    return of(candidate);
+                }
+            }
+
+            return interfaces.length > 0 ? of(interfaces[0]) : null;
+        }
+
+        final int hiddenSeparator = this.binaryName.indexOf('/');
+
+        if (hiddenSeparator < 0) {
+            return null;
+        }
+
+        final Class<?> nestHost = this.clazz.getNestHost();
+
+        if (nestHost != this.clazz) {
+            return of(nestHost);
+        }
+
+        final int lambdaSeparator = this.binaryName.indexOf(LAMBDA_SEPARATOR);
+        final int hostNameLength = lambdaSeparator > 0 ? lambdaSeparator : hiddenSeparator;
+
+        return of(this.binaryName.substring(0, hostNameLength), this.loader);
+    }
+
+    /**
+     * 配列クラスの要素型を返却します。多次元配列の場合は最も内側の要素型を返却します。
+     *
+     * @return 配列クラスの要素型
+     */
+    private Class<?> elementType() {
+
+        Class<?> elementType = this.clazz;
+
+        while (elementType.isArray()) {
+            elementType = elementType.getComponentType();
         }
 
-        final String url = classResource.toString();
-        final String suffix = this.clazz.getCanonicalName().replace('.', '/') + PathSuffix.clazz();
+        return elementType;
+    }
+
+    /**
+     * 引数として渡された {@code classResource} から {@code suffix} を取り除き、クラスが格納されている領域を解決します。
+     * <p>
+     * クラスリソースのURLのスキームに対応する {@link LocationResolver} が登録されている場合は、その {@link LocationResolver}
+     * に解決を委譲します。組み込みのスキームの場合は接尾語の判定をURLのパス上で行い、領域の外部表現のみを生成するため、
+     * クラスリソースのURL全体を示す文字列は生成されません。
+     *
+     * @param classResource クラスリソースのURL
+     * @param suffix        クラスリソースのURLから取り除く接尾語
+     * @return クラスが格納されている領域の解決結果
+     */
+    private LocationResult locate(final URL classResource, final String suffix) {
+
+        final LocationResolver resolver = resolverOf(classResource);
+
+        if (resolver != null) {
+            final Location location = resolver.resolve(classResource, suffix);
+
+            if (location == null) {
+                return LocationResult.failure(FailureReason.UNSUPPORTED_SCHEME, classResource.toString());
+            }
+
+            return LocationResult.success(LocationInterner.intern(location));
+        }
+
+        if (!isDecomposable(classResource)) {
+            return locate(classResource.toString(), suffix);
+        }
+
+        final String path = classResource.getPath();
+        final int pathEnd = path.length() - suffix.length();
+
+        if (pathEnd < 0 || !path.regionMatches(pathEnd, suffix, 0, suffix.length())) {
+            return LocationResult.failure(FailureReason.INVALID_SUFFIX, classResource.toString());
+        }
+
+        final String externalForm = toExternalForm(classResource, pathEnd);
+
+        try {
+            return LocationResult.success(LocationInterner.intern(Location.parse(externalForm, externalForm.length())));
+        } catch (IllegalArgumentException e) {
+            return LocationResult.failure(FailureReason.MALFORMED_URL, externalForm, e);
+        }
+    }
+
+    /**
+     * 引数として渡された {@code url} の末尾から {@code suffix} を取り除き、クラスが格納されている領域を解決します。
+     *
+     * @param url    クラスリソースのURLの文字列表現
+     * @param suffix クラスリソースのURLから取り除く接尾語
+     * @return クラスが格納されている領域の解決結果
+     */
+    private static LocationResult locate(final String url, final String suffix) {
+
+        final int end = url.length() - suffix.length();
 
-        if (!url.endsWith(suffix)) {
-            throw new InvalidClassLocationException(String.format("Invalid suffix was detected in %s", url));
+        if (end < 0 || !url.regionMatches(end, suffix, 0, suffix.length())) {
+            return LocationResult.failure(FailureReason.INVALID_SUFFIX, url);
         }
 
         try {
-            return new URL(this.removeJarPrefix(url, suffix));
-        } catch (MalformedURLException e) {
-            throw new InvalidClassLocationException(e);
+            return LocationResult.success(LocationInterner.intern(Location.parse(url, end)));
+        } catch (IllegalArgumentException e) {
+            return LocationResult.failure(FailureReason.MALFORMED_URL, url, e);
         }
     }
 
     /**
-     * 接頭語の {@link PathPrefix#jar()} を取り除いたパスを返却します。引数として指定された {@code suffix}
-     * までの文字列も取り除きます。
+     * 引数として渡された {@code url} の外部表現をスキーム、オーソリティおよびパスから組み立てられるか判定します。
+     * <p>
+     * 組み込みのスキームのURLハンドラは外部表現の形式を変更しないため、クエリおよびフラグメントを持たない場合に限り組み立てが可能です。
+     *
+     * @param url 判定対象のURL
+     * @return 外部表現を組み立てられる場合は {@code true} 、それ以外は {@code false}
+     */
+    private static boolean isDecomposable(final URL url) {
+
+        if (url.getQuery() != null || url.getRef() != null) {
+            return false;
+        }
+
+        final String protocol = url.getProtocol();
+
+        return protocol.equals(PathPrefix.FILE.getScheme()) || protocol.equals(PathPrefix.JAR.getScheme())
+                || protocol.equals(PathPrefix.JRT.getScheme());
+    }
+
+    /**
+     * 引数として渡された {@code url} のパスの先頭から {@code pathEnd} までを範囲とした外部表現を返却します。
+     * <p>
+     * 外部表現は {@link URL#toExternalForm()} と同一の形式で単一の文字配列上に組み立てられるため、中間の文字列を生成しません。
      *
-     * @param url    クラスが格納されている領域へのURL
-     * @param suffix 削除する接尾語
-     * @return 接頭語 {@link PathPrefix#jar()} と引数として渡された {@code suffix} を取り除いたファイルパス
+     * @param url     クラスリソースのURL
+     * @param pathEnd パスの終了位置 (この位置を含まない)
+     * @return 引数として渡された {@code url} のパスの先頭から {@code pathEnd} までを範囲とした外部表現
      */
-    private String removeJarPrefix(final String url, final String suffix) {
+    private static String toExternalForm(final URL url, final int pathEnd) {
+
+        final String protocol = url.getProtocol();
+        final String authority = url.getAuthority();
+        final boolean hasAuthority = authority != null && !authority.isEmpty();
+        final char[] chars = new char[protocol.length() + 1 + (hasAuthority ? authority.length() + 2 : 0) + pathEnd];
 
-        final String path = url.substring(0, url.length() - suffix.length());
+        int index = protocol.length();
+        protocol.getChars(0, index, chars, 0);
+        chars[index++] = ':';
 
-        if (path.startsWith(PathPrefix.jar())) {
-            return path.substring(4, path.length() - 2);
+        if (hasAuthority) {
+            chars[index++] = '/';
+            chars[index++] = '/';
+            authority.getChars(0, authority.length(), chars, index);
+            index += authority.length();
         }
 
-        return path;
+        url.getPath().getChars(0, pathEnd, chars, index);
+
+        return new String(chars);
+    }
+
+    /**
+     * 引数として渡された {@code url} のスキームに対応する {@link LocationResolver} を返却します。
+     * <p>
+     * スキームの判定には {@link URL#getProtocol()} と {@link URL#getPath()} のみを使用するため、URLの文字列は生成されません。
+     *
+     * @param url 判定対象のURL
+     * @return 引数として渡された {@code url} のスキームに対応する {@link LocationResolver} 。
+     *         本ライブラリで解析可能なスキームの場合、または、登録されていない場合は {@code null}
+     */
+    private static LocationResolver resolverOf(final URL url) {
+
+        if (LocationResolvers.isEmpty() || isBuiltInScheme(url)) {
+            return null;
+        }
+
+        return LocationResolvers.get(url.getProtocol());
+    }
+
+    /**
+     * 引数として渡された {@code url} が本ライブラリで解析可能なスキームか判定します。
+     * <p>
+     * {@code jar} プロトコルの場合はパスの先頭にある内側のスキームも判定するため、 {@code jar:nested:} のような独自の入れ子形式は
+     * {@link LocationResolver} へ委譲されます。判定時に文字列は生成されません。
+     *
+     * @param url 判定対象のURL
+     * @return 本ライブラリで解析可能なスキームの場合は {@code true} 、それ以外は {@code false}
+     */
+    private static boolean isBuiltInScheme(final URL url) {
+
+        final String protocol = url.getProtocol();
+
+        if (PathPrefix.JAR.getScheme().equals(protocol)) {
+            return PathPrefix.classify(url.getPath()) != null;
+        }
+
+        return PathPrefix.FILE.getScheme().equals(protocol) || PathPrefix.JRT.getScheme().equals(protocol);
+    }
+
+    /**
+     * 解決に成功した結果と解決時のキャッシュの世代を保持します。
+     * <p>
+     * 結果と世代を単一の不変オブジェクトとして公開するため、異なる世代の結果を誤って参照することはありません。
+     */
+    private static final class Memo {
+
+        /**
+         * 解決に成功した結果
+         */
+        private final LocationResult result;
+
+        /**
+         * 解決時のキャッシュの世代
+         */
+        private final int generation;
+
+        /**
+         * コンストラクタ
+         *
+         * @param result     解決に成功した結果
+         * @param generation 解決時のキャッシュの世代
+         */
+        Memo(final LocationResult result, final int generation) {
+            this.result = result;
+            this.generation = generation;
+        }
     }
-}
\ No newline at end of file
+}
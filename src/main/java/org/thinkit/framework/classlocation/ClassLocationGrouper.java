@@ -0,0 +1,146 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.classlocation;
+
+import java.security.CodeSource;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import lombok.NonNull;
+
+/**
+ * 複数のクラスを格納されている領域毎に分類する集計処理を提供します。
+ * <p>
+ * 同一の {@link CodeSource} に属するクラスは最初に解決したURLを共有するため、jarファイル毎のURLは一度だけ解決されます。
+ * 分類結果の並び順は領域およびクラスともに追加された順序を維持します。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+final class ClassLocationGrouper {
+
+    /**
+     * {@link CodeSource} 毎の分類先
+     */
+    private final Map<CodeSource, Group> groupsByCodeSource = new IdentityHashMap<>();
+
+    /**
+     * 領域毎の分類先
+     */
+    private final Map<Location, Group> groupsByLocation = new LinkedHashMap<>();
+
+    /**
+     * 引数として渡された {@code clazz} を格納されている領域へ分類します。
+     *
+     * @param clazz 分類対象のクラス
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    void add(@NonNull final Class<?> clazz) {
+
+        final CodeSource codeSource = clazz.getProtectionDomain().getCodeSource();
+        final boolean sharable = codeSource != null && codeSource.getLocation() != null;
+
+        if (sharable) {
+            final Group group = this.groupsByCodeSource.get(codeSource);
+
+            if (group != null) {
+                group.classes.add(clazz);
+                return;
+            }
+        }
+
+        final Group group = this.group(ClassLocation.of(clazz).toLocation());
+        group.classes.add(clazz);
+
+        if (sharable) {
+            this.groupsByCodeSource.put(codeSource, group);
+        }
+    }
+
+    /**
+     * 引数として渡された {@code other} の分類結果をこの集計処理の末尾へ結合します。
+     *
+     * @param other 結合する集計処理
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    void addAll(@NonNull final ClassLocationGrouper other) {
+
+        for (Group group : other.groupsByLocation.values()) {
+            this.group(group.location).classes.addAll(group.classes);
+        }
+
+        for (Map.Entry<CodeSource, Group> entry : other.groupsByCodeSource.entrySet()) {
+            this.groupsByCodeSource.putIfAbsent(entry.getKey(), this.groupsByLocation.get(entry.getValue().location));
+        }
+    }
+
+    /**
+     * 集計結果を基に {@link ClassLocations} クラスのインスタンスを生成し返却します。
+     *
+     * @return 集計結果を保持する {@link ClassLocations} クラスのインスタンス
+     */
+    ClassLocations toClassLocations() {
+
+        final Map<Location, List<Class<?>>> classes = new LinkedHashMap<>(this.groupsByLocation.size() * 2);
+
+        for (Group group : this.groupsByLocation.values()) {
+            classes.put(group.location, Collections.unmodifiableList(new ArrayList<>(group.classes)));
+        }
+
+        return new ClassLocations(classes);
+    }
+
+    /**
+     * 引数として渡された {@code location} に紐づく分類先を返却します。分類先が存在しない場合は新たに生成します。
+     *
+     * @param location クラスが格納されている領域
+     * @return 引数として渡された {@code location} に紐づく分類先
+     */
+    private Group group(final Location location) {
+        return this.groupsByLocation.computeIfAbsent(location, Group::new);
+    }
+
+    /**
+     * 同一の領域に格納されているクラスの集合です。
+     */
+    private static final class Group {
+
+        /**
+         * クラスが格納されている領域
+         */
+        private final Location location;
+
+        /**
+         * 領域に格納されているクラス
+         */
+        private final List<Class<?>> classes = new ArrayList<>();
+
+        /**
+         * コンストラクタ
+         *
+         * @param location クラスが格納されている領域
+         */
+        private Group(final Location location) {
+            this.location = location;
+        }
+    }
+}
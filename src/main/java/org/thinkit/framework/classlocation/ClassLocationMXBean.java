@@ -0,0 +1,117 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.classlocation;
+
+import java.util.Map;
+
+/**
+ * {@link ClassLocation} のキャッシュを実行中に参照および操作するための管理インターフェースです。
+ * <p>
+ * {@link ClassLocationManagement#register()} によりプラットフォームMBeanサーバーへ登録されます。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ *
+ * @see ClassLocationManagement
+ */
+public interface ClassLocationMXBean {
+
+    /**
+     * キャッシュが保持している解決結果の数を返却します。
+     *
+     * @return キャッシュが保持している解決結果の数
+     */
+    int getCacheSize();
+
+    /**
+     * 解決済みの結果を返却した回数を返却します。統計情報の集計が無効な間の検索は計上されません。
+     *
+     * @return 解決済みの結果を返却した回数
+     *
+     * @see #isMetricsEnabled()
+     */
+    long getHitCount();
+
+    /**
+     * 解決処理を行った回数を返却します。統計情報の集計が無効な間の検索は計上されません。
+     *
+     * @return 解決処理を行った回数
+     *
+     * @see #isMetricsEnabled()
+     */
+    long getMissCount();
+
+    /**
+     * 解決済みの結果を返却した割合を返却します。
+     *
+     * @return 解決済みの結果を返却した割合
+     */
+    double getHitRatio();
+
+    /**
+     * キャッシュから取り除かれたエントリ数を返却します。
+     *
+     * @return キャッシュから取り除かれたエントリ数
+     */
+    long getEvictionCount();
+
+    /**
+     * 統計情報の集計が有効か判定します。
+     *
+     * @return 統計情報の集計が有効な場合は {@code true} 、それ以外は {@code false}
+     */
+    boolean isMetricsEnabled();
+
+    /**
+     * 統計情報の集計の有効/無効を設定します。
+     *
+     * @param metricsEnabled 統計情報の集計を有効にする場合は {@code true} 、無効にする場合は {@code false}
+     */
+    void setMetricsEnabled(boolean metricsEnabled);
+
+    /**
+     * 領域毎のクラス数を返却します。
+     *
+     * @return 領域の文字列表現をキーとしたクラス数
+     */
+    Map<String, Integer> getLocationClassCounts();
+
+    /**
+     * キャッシュが保持している解決結果を全て破棄します。
+     */
+    void clearCache();
+
+    /**
+     * キャッシュが保持している解決に失敗した結果を全て破棄します。
+     */
+    void invalidateFailures();
+
+    /**
+     * 引数として渡されたクラス名の基準ファイルパスを解決し、結果をキャッシュへ保持します。
+     *
+     * @param className クラスのバイナリ名
+     * @return 解決に成功した場合は領域の文字列表現、失敗した場合は失敗理由
+     */
+    String locate(String className);
+
+    /**
+     * 引数として渡されたパッケージに属するクラスの基準ファイルパスを解決し、結果をキャッシュへ保持します。
+     *
+     * @param packageName パッケージ名。サブパッケージは含まれません
+     * @return 解決に成功したクラス数
+     */
+    int warmUpPackage(String packageName);
+}
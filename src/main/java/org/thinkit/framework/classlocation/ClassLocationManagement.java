@@ -0,0 +1,196 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.classlocation;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+
+/**
+ * {@link ClassLocationMXBean} をプラットフォームMBeanサーバーへ登録します。
+ * <p>
+ * 登録は任意であり、登録しない場合は管理インターフェースに関する処理は一切行われません。
+ *
+ * <pre>
+ * 登録する場合:
+ * <code>
+ * ClassLocationManagement.register();
+ * </code>
+ * </pre>
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+public final class ClassLocationManagement {
+
+    /**
+     * 登録時のオブジェクト名
+     */
+    public static final String OBJECT_NAME = "org.thinkit.framework.classlocation:type=ClassLocation";
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    private ClassLocationManagement() {
+    }
+
+    /**
+     * {@link ClassLocationMXBean} をプラットフォームMBeanサーバーへ登録します。既に登録されている場合は何もしません。
+     *
+     * @throws IllegalStateException 登録に失敗した場合
+     */
+    public static synchronized void register() {
+
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+        try {
+            server.registerMBean(new Bean(), objectName());
+        } catch (InstanceAlreadyExistsException e) {
+            // 既に登録されている
+        } catch (JMException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * {@link ClassLocationMXBean} をプラットフォームMBeanサーバーから登録解除します。登録されていない場合は何もしません。
+     *
+     * @throws IllegalStateException 登録解除に失敗した場合
+     */
+    public static synchronized void unregister() {
+
+        final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+        try {
+            server.unregisterMBean(objectName());
+        } catch (InstanceNotFoundException e) {
+            // 登録されていない
+        } catch (JMException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 登録時のオブジェクト名を返却します。
+     *
+     * @return 登録時のオブジェクト名
+     */
+    private static ObjectName objectName() {
+        try {
+            return new ObjectName(OBJECT_NAME);
+        } catch (MalformedObjectNameException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * {@link ClassLocationMXBean} の実装です。
+     */
+    private static final class Bean implements ClassLocationMXBean {
+
+        @Override
+        public int getCacheSize() {
+            return LocationCache.size();
+        }
+
+        @Override
+        public long getHitCount() {
+            return LocationMetrics.snapshot().getHits();
+        }
+
+        @Override
+        public long getMissCount() {
+            return LocationMetrics.snapshot().getMisses();
+        }
+
+        @Override
+        public double getHitRatio() {
+            return LocationMetrics.snapshot().getHitRatio();
+        }
+
+        @Override
+        public long getEvictionCount() {
+            return LocationCache.evictionCount();
+        }
+
+        @Override
+        public boolean isMetricsEnabled() {
+            return ClassLocationSettings.isMetricsEnabled();
+        }
+
+        @Override
+        public void setMetricsEnabled(final boolean metricsEnabled) {
+            ClassLocationSettings.setMetricsEnabled(metricsEnabled);
+        }
+
+        @Override
+        public Map<String, Integer> getLocationClassCounts() {
+
+            final Map<String, Integer> counts = new TreeMap<>();
+
+            for (Map.Entry<Location, Integer> entry : LocationCache.countByLocation().entrySet()) {
+                counts.put(entry.getKey().toString(), entry.getValue());
+            }
+
+            return counts;
+        }
+
+        @Override
+        public void clearCache() {
+            LocationCache.clear();
+        }
+
+        @Override
+        public void invalidateFailures() {
+            LocationCache.invalidateFailures();
+        }
+
+        @Override
+        public String locate(final String className) {
+
+            final LocationResult result = ClassLocation.of(className, contextLoader()).tryLocate();
+
+            if (result.isSuccess()) {
+                return result.getLocation().get().toString();
+            }
+
+            return result.reason().format(result.getDetail().orElse(className));
+        }
+
+        @Override
+        public int warmUpPackage(final String packageName) {
+            return ClassLocationWarmer.warmUpPackages(List.of(packageName), contextLoader()).join();
+        }
+
+        /**
+         * 検索に使用するクラスローダーを返却します。
+         *
+         * @return 現在のスレッドのコンテキストクラスローダー。設定されていない場合はシステムクラスローダー
+         */
+        private static ClassLoader contextLoader() {
+            final ClassLoader contextLoader = Thread.currentThread().getContextClassLoader();
+            return contextLoader != null ? contextLoader : ClassLoader.getSystemClassLoader();
+        }
+    }
+}
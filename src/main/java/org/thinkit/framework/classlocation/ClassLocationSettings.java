@@ -0,0 +1,279 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.classlocation;
+
+import java.time.Duration;
+
+import org.thinkit.framework.classlocation.catalog.EvictionPolicy;
+
+import lombok.NonNull;
+
+/**
+ * {@link ClassLocation} の動作設定を管理します。
+ * <p>
+ * 各設定の初期値はシステムプロパティから読み込まれます。システムプロパティが指定されていない場合は既定値が使用されます。
+ * 実行中に設定を変更した場合は以降の処理から反映されます。
+ *
+ * <pre>
+ * システムプロパティで軽量例外モードを有効にする場合:
+ * <code>
+ * -Dorg.thinkit.framework.classlocation.lightweightExceptions=true
+ * </code>
+ * </pre>
+ *
+ * <pre>
+ * システムプロパティで統計情報の集計を有効にする場合:
+ * <code>
+ * -Dorg.thinkit.framework.classlocation.metricsEnabled=true
+ * </code>
+ * </pre>
+ *
+ * <pre>
+ * システムプロパティでキャッシュの上限と選択方針を指定する場合:
+ * <code>
+ * -Dorg.thinkit.framework.classlocation.maxCacheEntries=4096
+ * -Dorg.thinkit.framework.classlocation.cacheEvictionPolicy=LRU
+ * -Dorg.thinkit.framework.classlocation.negativeCacheTtlMillis=60000
+ * </code>
+ * </pre>
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+public final class ClassLocationSettings {
+
+    /**
+     * キャッシュのエントリ数の上限の既定値
+     */
+    public static final int DEFAULT_MAX_CACHE_ENTRIES = 8192;
+
+    /**
+     * 解決に失敗した結果をキャッシュする期間の既定値(ミリ秒)
+     */
+    public static final long DEFAULT_NEGATIVE_CACHE_TTL_MILLIS = 10_000;
+
+    /**
+     * 解決に失敗した結果をキャッシュする期間の上限(ミリ秒)
+     * <p>
+     * 上限を超える期間を指定した場合は上限に切り詰められます。実質的に無期限として扱える長さです。
+     */
+    public static final long MAX_NEGATIVE_CACHE_TTL_MILLIS = 365L * 24 * 60 * 60 * 1000;
+
+    /**
+     * 解決に失敗した結果をキャッシュする期間の上限
+     */
+    private static final Duration MAX_NEGATIVE_CACHE_TTL = Duration.ofMillis(MAX_NEGATIVE_CACHE_TTL_MILLIS);
+
+    /**
+     * システムプロパティの接頭語
+     */
+    private static final String PROPERTY_PREFIX = "org.thinkit.framework.classlocation.";
+
+    /**
+     * 軽量例外モード
+     */
+    private static volatile boolean lightweightExceptions = Boolean
+            .getBoolean(PROPERTY_PREFIX + "lightweightExceptions");
+
+    /**
+     * 統計情報の集計
+     */
+    private static volatile boolean metricsEnabled = Boolean.getBoolean(PROPERTY_PREFIX + "metricsEnabled");
+
+    /**
+     * キャッシュのエントリ数の上限
+     */
+    private static volatile int maxCacheEntries = Math.max(1,
+            Integer.getInteger(PROPERTY_PREFIX + "maxCacheEntries", DEFAULT_MAX_CACHE_ENTRIES));
+
+    /**
+     * キャッシュから取り除くエントリの選択方針
+     */
+    private static volatile EvictionPolicy cacheEvictionPolicy = toEvictionPolicy(
+            System.getProperty(PROPERTY_PREFIX + "cacheEvictionPolicy"));
+
+    /**
+     * 解決に失敗した結果をキャッシュする期間
+     */
+    private static volatile Duration negativeCacheTtl = Duration.ofMillis(Math.min(MAX_NEGATIVE_CACHE_TTL_MILLIS,
+            Math.max(0, Long.getLong(PROPERTY_PREFIX + "negativeCacheTtlMillis", DEFAULT_NEGATIVE_CACHE_TTL_MILLIS))));
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    private ClassLocationSettings() {
+    }
+
+    /**
+     * 軽量例外モードが有効か判定します。
+     * <p>
+     * 軽量例外モードが有効な場合、基準ファイルパスの解決失敗時に送出される例外はスタックトレースを取得せず、
+     * メッセージも {@link Throwable#getMessage()} が呼び出された時に初めて生成します。
+     * 解決に失敗するクラスを大量に検索する場合の例外生成コストを削減できます。
+     *
+     * @return 軽量例外モードが有効な場合は {@code true} 、それ以外は {@code false}
+     */
+    public static boolean isLightweightExceptions() {
+        return lightweightExceptions;
+    }
+
+    /**
+     * 軽量例外モードの有効/無効を設定します。
+     *
+     * @param lightweightExceptions 軽量例外モードを有効にする場合は {@code true} 、無効にする場合は
+     *                              {@code false}
+     *
+     * @see #isLightweightExceptions()
+     */
+    public static void setLightweightExceptions(final boolean lightweightExceptions) {
+        ClassLocationSettings.lightweightExceptions = lightweightExceptions;
+    }
+
+    /**
+     * 統計情報の集計が有効か判定します。
+     * <p>
+     * 集計が有効な場合、検索の回数と解決経路および失敗理由ごとの処理時間が {@link LocationMetrics} に記録されます。
+     *
+     * @return 統計情報の集計が有効な場合は {@code true} 、それ以外は {@code false}
+     */
+    public static boolean isMetricsEnabled() {
+        return metricsEnabled;
+    }
+
+    /**
+     * 統計情報の集計の有効/無効を設定します。
+     *
+     * @param metricsEnabled 統計情報の集計を有効にする場合は {@code true} 、無効にする場合は {@code false}
+     *
+     * @see #isMetricsEnabled()
+     */
+    public static void setMetricsEnabled(final boolean metricsEnabled) {
+        ClassLocationSettings.metricsEnabled = metricsEnabled;
+    }
+
+    /**
+     * キャッシュのエントリ数の上限を返却します。
+     *
+     * @return キャッシュのエントリ数の上限
+     */
+    public static int getMaxCacheEntries() {
+        return maxCacheEntries;
+    }
+
+    /**
+     * キャッシュのエントリ数の上限を設定します。
+     * <p>
+     * 設定を変更するとキャッシュが保持している解決結果は破棄されます。
+     *
+     * @param maxCacheEntries キャッシュのエントリ数の上限
+     *
+     * @throws IllegalArgumentException 引数として {@code 1} 未満の値が渡された場合
+     */
+    public static void setMaxCacheEntries(final int maxCacheEntries) {
+
+        if (maxCacheEntries < 1) {
+            throw new IllegalArgumentException(
+                    String.format("Max cache entries must be positive: %d", maxCacheEntries));
+        }
+
+        ClassLocationSettings.maxCacheEntries = maxCacheEntries;
+        LocationCache.clear();
+    }
+
+    /**
+     * キャッシュから取り除くエントリの選択方針を返却します。
+     *
+     * @return キャッシュから取り除くエントリの選択方針
+     */
+    public static EvictionPolicy getCacheEvictionPolicy() {
+        return cacheEvictionPolicy;
+    }
+
+    /**
+     * キャッシュから取り除くエントリの選択方針を設定します。
+     * <p>
+     * 設定を変更するとキャッシュが保持している解決結果は破棄されます。
+     *
+     * @param cacheEvictionPolicy キャッシュから取り除くエントリの選択方針
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    public static void setCacheEvictionPolicy(@NonNull final EvictionPolicy cacheEvictionPolicy) {
+        ClassLocationSettings.cacheEvictionPolicy = cacheEvictionPolicy;
+        LocationCache.clear();
+    }
+
+    /**
+     * 解決に失敗した結果をキャッシュする期間を返却します。
+     * <p>
+     * 期間内に同じクラスを検索した場合はクラスローダーの探索を行わず、キャッシュした失敗理由を返却します。
+     *
+     * @return 解決に失敗した結果をキャッシュする期間。 {@link Duration#ZERO} の場合はキャッシュしない
+     */
+    public static Duration getNegativeCacheTtl() {
+        return negativeCacheTtl;
+    }
+
+    /**
+     * 解決に失敗した結果をキャッシュする期間を設定します。
+     * <p>
+     * 設定した期間は以降にキャッシュされる結果から適用されます。 {@link #MAX_NEGATIVE_CACHE_TTL_MILLIS}
+     * を超える期間は上限に切り詰められるため、期間として {@link Duration#ofMillis(long)} に {@link Long#MAX_VALUE}
+     * を渡すなど、実質的に無期限のキャッシュを指定することもできます。
+     *
+     * @param negativeCacheTtl 解決に失敗した結果をキャッシュする期間。 {@link Duration#ZERO} の場合はキャッシュしない
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     * @throws IllegalArgumentException 引数として負の期間が渡された場合
+     */
+    public static void setNegativeCacheTtl(@NonNull final Duration negativeCacheTtl) {
+
+        if (negativeCacheTtl.isNegative()) {
+            throw new IllegalArgumentException(
+                    String.format("Negative cache TTL must not be negative: %s", negativeCacheTtl));
+        }
+
+        ClassLocationSettings.negativeCacheTtl = negativeCacheTtl.compareTo(MAX_NEGATIVE_CACHE_TTL) > 0
+                ? MAX_NEGATIVE_CACHE_TTL
+                : negativeCacheTtl;
+    }
+
+    /**
+     * 引数として渡された {@code name} に紐づくキャッシュから取り除くエントリの選択方針を返却します。
+     * <p>
+     * 大文字と小文字を区別せず、 {@code '-'} は {@code '_'} と同一視します。システムプロパティの誤りにより初期化が失敗しないよう、
+     * 該当する選択方針が存在しない場合は {@link EvictionPolicy#TINY_LFU} を返却します。
+     *
+     * @param name 選択方針の名前。指定されていない場合は {@code null}
+     * @return 引数として渡された {@code name} に紐づく選択方針
+     */
+    private static EvictionPolicy toEvictionPolicy(final String name) {
+
+        if (name == null) {
+            return EvictionPolicy.TINY_LFU;
+        }
+
+        final String normalized = name.trim().replace('-', '_');
+
+        for (EvictionPolicy policy : EvictionPolicy.values()) {
+            if (policy.name().equalsIgnoreCase(normalized)) {
+                return policy;
+            }
+        }
+
+        return EvictionPolicy.TINY_LFU;
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.classlocation;
+
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 複数のクラスの基準ファイルパスを分割統治により並列に解決するタスクです。
+ * <p>
+ * 検索対象の範囲が閾値以下になるまで分割し、分割された範囲毎の集計結果を元の順序で結合します。
+ * そのため、結合後の集計結果は逐次処理で集計した場合と同一になります。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+final class ClassLocationTask extends RecursiveTask<ClassLocationGrouper> {
+
+    /**
+     * serialVersionUID
+     */
+    private static final long serialVersionUID = 0L;
+
+    /**
+     * 検索対象のクラス
+     */
+    private final transient List<? extends Class<?>> classes;
+
+    /**
+     * 検索対象範囲の開始位置 (この位置を含む)
+     */
+    private final int from;
+
+    /**
+     * 検索対象範囲の終了位置 (この位置を含まない)
+     */
+    private final int to;
+
+    /**
+     * 逐次処理へ切り替える検索対象範囲の大きさ
+     */
+    private final int threshold;
+
+    /**
+     * コンストラクタ
+     *
+     * @param classes   検索対象のクラス
+     * @param from      検索対象範囲の開始位置 (この位置を含む)
+     * @param to        検索対象範囲の終了位置 (この位置を含まない)
+     * @param threshold 逐次処理へ切り替える検索対象範囲の大きさ
+     */
+    ClassLocationTask(final List<? extends Class<?>> classes, final int from, final int to, final int threshold) {
+        this.classes = classes;
+        this.from = from;
+        this.to = to;
+        this.threshold = threshold;
+    }
+
+    @Override
+    protected ClassLocationGrouper compute() {
+
+        if (this.to - this.from <= this.threshold) {
+            final ClassLocationGrouper grouper = new ClassLocationGrouper();
+
+            for (int i = this.from; i < this.to; i++) {
+                grouper.add(this.classes.get(i));
+            }
+
+            return grouper;
+        }
+
+        final int middle = (this.from + this.to) >>> 1;
+        final ClassLocationTask left = new ClassLocationTask(this.classes, this.from, middle, this.threshold);
+        final ClassLocationTask right = new ClassLocationTask(this.classes, middle, this.to, this.threshold);
+
+        left.fork();
+        final ClassLocationGrouper rightGrouper = right.compute();
+        final ClassLocationGrouper leftGrouper = left.join();
+
+        leftGrouper.addAll(rightGrouper);
+
+        return leftGrouper;
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.classlocation;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import lombok.NonNull;
+
+/**
+ * クラスの基準ファイルパスを事前に解決し、キャッシュへ保持します。
+ * <p>
+ * 解決は引数として渡された {@link Executor} 上で一定数ごとに分割して並列に行われます。 {@link Executor}
+ * を指定しない場合は {@link ForkJoinPool#commonPool()} が使用されます。Java 21 以降では仮想スレッドの
+ * {@link Executor} を渡すこともできます。返却される {@link CompletableFuture} は全ての解決が終了した時点で完了し、
+ * 解決に成功したクラス数を保持します。
+ * <p>
+ * クラスで解決した結果は {@link ClassLocation#of(Class)} による検索で再利用されます。クラス名またはパッケージ名で解決した結果は
+ * 引数として渡されたクラスローダーに紐づけて保持され、同一のクラスローダーを渡した {@link ClassLocation#of(String, ClassLoader)}
+ * による検索でのみ再利用されます。 {@link ClassLocation#of(Class)} による検索は解決方法が異なるため、これらの結果を再利用しません。
+ *
+ * <pre>
+ * 起動時にパッケージに属するクラスを事前に解決する場合:
+ * <code>
+ * CompletableFuture&lt;Integer&gt; warmUp = ClassLocationWarmer.warmUpPackages(List.of("com.example.handler"),
+ *         Thread.currentThread().getContextClassLoader());
+ * ...
+ * warmUp.join();
+ * </code>
+ * </pre>
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+public final class ClassLocationWarmer {
+
+    /**
+     * 一つのタスクで解決するクラス数
+     */
+    private static final int BATCH_SIZE = 64;
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    private ClassLocationWarmer() {
+    }
+
+    /**
+     * 引数として渡された {@code classes} の基準ファイルパスを {@link ForkJoinPool#commonPool()} 上で事前に解決します。
+     *
+     * @param classes 解決対象のクラス
+     * @return 解決に成功したクラス数を保持する {@link CompletableFuture}
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    public static CompletableFuture<Integer> warmUp(@NonNull final Collection<? extends Class<?>> classes) {
+        return warmUp(classes, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * 引数として渡された {@code classes} の基準ファイルパスを {@code executor} 上で事前に解決します。
+     *
+     * @param classes  解決対象のクラス
+     * @param executor 解決を行う {@link Executor}
+     * @return 解決に成功したクラス数を保持する {@link CompletableFuture}
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    public static CompletableFuture<Integer> warmUp(@NonNull final Collection<? extends Class<?>> classes,
+            @NonNull final Executor executor) {
+
+        final List<ClassLocation> classLocations = new ArrayList<>(classes.size());
+
+        for (Class<?> clazz : classes) {
+            classLocations.add(ClassLocation.of(clazz));
+        }
+
+        return locate(classLocations, executor);
+    }
+
+    /**
+     * 引数として渡された {@code binaryNames} の基準ファイルパスを {@link ForkJoinPool#commonPool()} 上で事前に解決します。
+     *
+     * @param binaryNames 解決対象クラスのバイナリ名
+     * @param loader      クラスリソースの検索に使用するクラスローダー。ブートストラップクラスローダーの場合は {@code null}
+     * @return 解決に成功したクラス数を保持する {@link CompletableFuture}
+     *
+     * @exception NullPointerException 引数として渡された {@code binaryNames} が {@code null} の場合
+     */
+    public static CompletableFuture<Integer> warmUpByName(@NonNull final Collection<String> binaryNames,
+            final ClassLoader loader) {
+        return warmUpByName(binaryNames, loader, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * 引数として渡された {@code binaryNames} の基準ファイルパスを {@code executor} 上で事前に解決します。
+     *
+     * @param binaryNames 解決対象クラスのバイナリ名
+     * @param loader      クラスリソースの検索に使用するクラスローダー。ブートストラップクラスローダーの場合は {@code null}
+     * @param executor    解決を行う {@link Executor}
+     * @return 解決に成功したクラス数を保持する {@link CompletableFuture}
+     *
+     * @exception NullPointerException 引数として渡された {@code binaryNames} または {@code executor} が
+     *                                 {@code null} の場合
+     */
+    public static CompletableFuture<Integer> warmUpByName(@NonNull final Collection<String> binaryNames,
+            final ClassLoader loader, @NonNull final Executor executor) {
+        return locate(toClassLocations(binaryNames, loader), executor);
+    }
+
+    /**
+     * 引数として渡された {@code packages} に属するクラスの基準ファイルパスを {@link ForkJoinPool#commonPool()}
+     * 上で事前に解決します。
+     *
+     * @param packages 解決対象のパッケージ名。サブパッケージは含まれません
+     * @param loader   クラスリソースの検索に使用するクラスローダー。ブートストラップクラスローダーの場合は {@code null}
+     * @return 解決に成功したクラス数を保持する {@link CompletableFuture}
+     *
+     * @exception NullPointerException     引数として渡された {@code packages} が {@code null} の場合
+     * @exception IllegalArgumentException 引数として渡された {@code packages} に空のパッケージ名が含まれている場合
+     */
+    public static CompletableFuture<Integer> warmUpPackages(@NonNull final Collection<String> packages,
+            final ClassLoader loader) {
+        return warmUpPackages(packages, loader, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * 引数として渡された {@code packages} に属するクラスの基準ファイルパスを {@code executor} 上で事前に解決します。
+     * <p>
+     * パッケージに属するクラスの列挙も {@code executor} 上で行われます。列挙に失敗した場合、返却される
+     * {@link CompletableFuture} は {@link java.io.UncheckedIOException} で完了します。
+     *
+     * @param packages 解決対象のパッケージ名。サブパッケージは含まれません
+     * @param loader   クラスリソースの検索に使用するクラスローダー。ブートストラップクラスローダーの場合は {@code null}
+     * @param executor 解決を行う {@link Executor}
+     * @return 解決に成功したクラス数を保持する {@link CompletableFuture}
+     *
+     * @exception NullPointerException     引数として渡された {@code packages} または {@code executor} が
+     *                                     {@code null} の場合
+     * @exception IllegalArgumentException 引数として渡された {@code packages} に空のパッケージ名が含まれている場合
+     */
+    public static CompletableFuture<Integer> warmUpPackages(@NonNull final Collection<String> packages,
+            final ClassLoader loader, @NonNull final Executor executor) {
+
+        final List<String> packageNames = new ArrayList<>(packages);
+        PackageScanner.checkPackageNames(packageNames);
+
+        return CompletableFuture.supplyAsync(() -> PackageScanner.scan(packageNames, loader), executor)
+                .thenCompose(binaryNames -> locate(toClassLocations(binaryNames, loader), executor));
+    }
+
+    /**
+     * 引数として渡されたバイナリ名から {@link ClassLocation} を生成します。
+     *
+     * @param binaryNames バイナリ名
+     * @param loader      クラスローダー
+     * @return {@link ClassLocation} のリスト
+     */
+    private static List<ClassLocation> toClassLocations(final Collection<String> binaryNames,
+            final ClassLoader loader) {
+
+        final List<ClassLocation> classLocations = new ArrayList<>(binaryNames.size());
+
+        for (String binaryName : binaryNames) {
+            classLocations.add(ClassLocation.of(binaryName, loader));
+        }
+
+        return classLocations;
+    }
+
+    /**
+     * 引数として渡された {@code classLocations} を {@link #BATCH_SIZE} 件ずつ {@code executor} 上で解決します。
+     *
+     * @param classLocations 解決対象
+     * @param executor       解決を行う {@link Executor}
+     * @return 解決に成功したクラス数を保持する {@link CompletableFuture}
+     */
+    private static CompletableFuture<Integer> locate(final List<ClassLocation> classLocations,
+            final Executor executor) {
+
+        final List<CompletableFuture<Integer>> batches = new ArrayList<>();
+
+        for (int from = 0; from < classLocations.size(); from += BATCH_SIZE) {
+            final List<ClassLocation> batch = classLocations.subList(from,
+                    Math.min(from + BATCH_SIZE, classLocations.size()));
+            batches.add(CompletableFuture.supplyAsync(() -> locate(batch), executor));
+        }
+
+        return CompletableFuture.allOf(batches.toArray(new CompletableFuture<?>[0])).thenApply(ignored -> {
+            int located = 0;
+
+            for (CompletableFuture<Integer> batch : batches) {
+                located += batch.join();
+            }
+
+            return located;
+        });
+    }
+
+    /**
+     * 引数として渡された {@code batch} を順に解決します。
+     *
+     * @param batch 解決対象
+     * @return 解決に成功したクラス数
+     */
+    private static int locate(final List<ClassLocation> batch) {
+
+        int located = 0;
+
+        for (ClassLocation classLocation : batch) {
+            if (classLocation.tryLocate().isSuccess()) {
+                located++;
+            }
+        }
+
+        return located;
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.classlocation;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * {@link ClassLocation#locateAll(java.util.Collection)} による一括検索の結果を格納されている領域毎に保持します。
+ * <p>
+ * 領域の並び順は検索対象として渡されたクラスの中で最初に出現した順序、各領域に属するクラスの並び順は検索対象として渡された順序を維持します。
+ *
+ * <pre>
+ * 領域毎にクラスを取得する場合:
+ * <code>
+ * ClassLocations classLocations = ClassLocation.locateAll(classes);
+ *
+ * for (Location location : classLocations.getLocations()) {
+ *     List&lt;Class&lt;?&gt;&gt; classesInLocation = classLocations.getClasses(location);
+ * }
+ * </code>
+ * </pre>
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+@ToString(doNotUseGetters = true)
+@EqualsAndHashCode(doNotUseGetters = true)
+public final class ClassLocations {
+
+    /**
+     * 領域をキーとした領域に格納されているクラス
+     */
+    private final Map<Location, List<Class<?>>> classes;
+
+    /**
+     * コンストラクタ
+     *
+     * @param classes 領域をキーとした領域に格納されているクラス
+     */
+    ClassLocations(final Map<Location, List<Class<?>>> classes) {
+        this.classes = classes;
+    }
+
+    /**
+     * クラスが格納されている領域を返却します。
+     *
+     * @return クラスが格納されている領域のリスト
+     */
+    public List<Location> getLocations() {
+        return Collections.unmodifiableList(new ArrayList<>(this.classes.keySet()));
+    }
+
+    /**
+     * 引数として渡された {@code location} に格納されているクラスを返却します。
+     *
+     * @param location クラスが格納されている領域
+     * @return 引数として渡された {@code location} に格納されているクラスのリスト。該当する領域が存在しない場合は空のリスト
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    public List<Class<?>> getClasses(@NonNull final Location location) {
+        return this.classes.getOrDefault(location, Collections.emptyList());
+    }
+
+    /**
+     * 引数として渡された {@code url} に格納されているクラスを返却します。
+     *
+     * @param url クラスが格納されている領域へのURL
+     * @return 引数として渡された {@code url} に格納されているクラスのリスト。該当する領域が存在しない場合は空のリスト
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    public List<Class<?>> getClasses(@NonNull final URL url) {
+        return this.getClasses(Location.of(url));
+    }
+
+    /**
+     * 領域の数を返却します。
+     *
+     * @return 領域の数
+     */
+    public int size() {
+        return this.classes.size();
+    }
+
+    /**
+     * 一括検索の対象となったクラスの数を返却します。
+     *
+     * @return 一括検索の対象となったクラスの数
+     */
+    public int getClassCount() {
+
+        int count = 0;
+
+        for (List<Class<?>> classesInLocation : this.classes.values()) {
+            count += classesInLocation.size();
+        }
+
+        return count;
+    }
+}
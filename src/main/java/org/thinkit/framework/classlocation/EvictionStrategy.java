@@ -0,0 +1,85 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.classlocation;
+
+import java.util.List;
+
+import org.thinkit.framework.classlocation.catalog.EvictionPolicy;
+
+/**
+ * {@link LocationCache} のエントリ数が上限を超えた場合に取り除くエントリを選択します。
+ * <p>
+ * 各メソッドは {@link LocationCache} のロックを保持した状態で呼び出されます。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+abstract class EvictionStrategy {
+
+    /**
+     * 引数として渡された方針と上限に応じた {@link EvictionStrategy} を返却します。
+     *
+     * @param policy         取り除くエントリの選択方針
+     * @param maximumEntries エントリ数の上限
+     * @return {@link EvictionStrategy}
+     */
+    static EvictionStrategy of(final EvictionPolicy policy, final int maximumEntries) {
+
+        switch (policy) {
+            case LRU:
+                return new LruEvictionStrategy(maximumEntries);
+            case TINY_LFU:
+                return new TinyLfuEvictionStrategy(maximumEntries);
+            default:
+                throw new IllegalArgumentException(String.valueOf(policy));
+        }
+    }
+
+    /**
+     * 保持しているエントリが参照されたことを記録します。
+     *
+     * @param entry 参照されたエントリ
+     */
+    abstract void access(CacheEntry entry);
+
+    /**
+     * 保持していないエントリが参照されたことを記録します。
+     *
+     * @param hash 参照されたエントリのハッシュ値
+     */
+    abstract void miss(int hash);
+
+    /**
+     * エントリを追加し、上限を超えた場合は取り除くエントリを選択します。
+     * <p>
+     * 追加したエントリ自身が取り除かれる場合もあります。
+     *
+     * @param entry   追加するエントリ
+     * @param evicted 取り除くエントリの格納先
+     */
+    abstract void insert(CacheEntry entry, List<CacheEntry> evicted);
+
+    /**
+     * エントリを取り除きます。既に取り除かれている場合は何もしません。
+     *
+     * @param entry 取り除くエントリ
+     */
+    final void remove(final CacheEntry entry) {
+        if (entry.list != null) {
+            entry.list.remove(entry);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.classlocation;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * クラスの基準ファイルパスの解決失敗を記録するJFRイベントです。
+ * <p>
+ * 失敗の原因となった呼び出し元を特定できるよう、スタックトレースを記録します。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+@Name("org.thinkit.framework.classlocation.Failure")
+@Label("Class Location Failure")
+@Category("Class Location")
+@Description("Failed resolution of the location a class was loaded from")
+final class FailureEvent extends Event {
+
+    /**
+     * クラスのバイナリ名
+     */
+    @Label("Class Name")
+    String className;
+
+    /**
+     * クラスローダー
+     */
+    @Label("Class Loader")
+    String classLoader;
+
+    /**
+     * 失敗理由
+     */
+    @Label("Reason")
+    String reason;
+
+    /**
+     * 失敗の詳細情報
+     */
+    @Label("Detail")
+    String detail;
+}
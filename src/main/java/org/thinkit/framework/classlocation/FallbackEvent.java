@@ -0,0 +1,57 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.classlocation;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * クラスリソースの検索を記録するJFRイベントです。
+ * <p>
+ * {@link java.security.CodeSource} やモジュールから解決できず、クラスローダーからクラスリソースを検索した場合に記録されます。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+@Name("org.thinkit.framework.classlocation.Fallback")
+@Label("Class Location Resource Fallback")
+@Category("Class Location")
+@Description("Class resource lookup through the class loader")
+@StackTrace(false)
+final class FallbackEvent extends Event {
+
+    /**
+     * クラスのバイナリ名
+     */
+    @Label("Class Name")
+    String className;
+
+    /**
+     * クラスリソース名
+     */
+    @Label("Resource Name")
+    String resourceName;
+
+    /**
+     * 検索されたクラスリソース
+     */
+    @Label("Resource")
+    String resource;
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.classlocation;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.thinkit.framework.classlocation.catalog.FailureReason;
+
+import lombok.NonNull;
+
+/**
+ * クラスが格納されている領域をファイルシステム上のパスへ変換する処理を提供します。
+ * <p>
+ * {@code "file"} スキームの領域は {@link java.net.URI} を経由せずにパーセントエンコーディングを直接復号します。
+ * 復号が不要なパスの場合は追加の文字列を生成しません。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+final class FileUrlDecoder {
+
+    /**
+     * {@code "file"} スキーム
+     */
+    private static final String FILE_SCHEME = "file";
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    private FileUrlDecoder() {
+    }
+
+    /**
+     * 引数として渡された {@code location} を {@link File} オブジェクトへ変換し返却します。
+     *
+     * @param location 変換対象の領域
+     * @return 引数として渡された {@code location} が示す {@link File} オブジェクト
+     *
+     * @throws InvalidClassLocationException 引数として渡された {@code location} のスキームが {@code "file"}
+     *                                       ではない場合、または、外部表現の形式が不正な場合
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    static File toFile(@NonNull final Location location) {
+
+        if (location.isNested() || !FILE_SCHEME.equals(location.getScheme())) {
+            throw unsupported(location, null);
+        }
+
+        final String path = location.getPath();
+
+        if (!path.startsWith("//") || path.startsWith("///")) {
+            final String decoded = decode(path.startsWith("///") ? path.substring(2) : path);
+
+            if (decoded != null) {
+                return new File(toPlatformPath(decoded));
+            }
+        }
+
+        try {
+            return Paths.get(location.toUri()).toFile();
+        } catch (IllegalArgumentException | InvalidClassLocationException e) {
+            throw unsupported(location, e);
+        }
+    }
+
+    /**
+     * 引数として渡された {@code location} を {@link Path} オブジェクトへ変換し返却します。
+     * <p>
+     * {@code "file"} スキーム以外の領域は、スキームに対応する {@link java.nio.file.FileSystem} が利用可能な場合に限り変換できます。
+     *
+     * @param location 変換対象の領域
+     * @return 引数として渡された {@code location} が示す {@link Path} オブジェクト
+     *
+     * @throws InvalidClassLocationException 引数として渡された {@code location} のスキームに対応する
+     *                                       {@link java.nio.file.FileSystem} が存在しない場合、
+     *                                       または、外部表現の形式が不正な場合
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    static Path toPath(@NonNull final Location location) {
+
+        if (!location.isNested() && FILE_SCHEME.equals(location.getScheme())) {
+            return toFile(location).toPath();
+        }
+
+        try {
+            return Paths.get(location.toUri());
+        } catch (IllegalArgumentException | FileSystemNotFoundException | InvalidClassLocationException e) {
+            throw unsupported(location, e);
+        }
+    }
+
+    /**
+     * 引数として渡された {@code path} のパーセントエンコーディングをUTF-8として復号します。
+     * <p>
+     * 復号対象の文字が含まれていない場合は引数として渡された {@code path} をそのまま返却します。
+     *
+     * @param path 復号対象のパス
+     * @return 復号されたパス。不正なエスケープシーケンスが含まれている場合は {@code null}
+     */
+    private static String decode(final String path) {
+
+        final int first = path.indexOf('%');
+
+        if (first < 0) {
+            return path;
+        }
+
+        final int length = path.length();
+        final StringBuilder decoded = new StringBuilder(length);
+        decoded.append(path, 0, first);
+
+        byte[] bytes = null;
+        int index = first;
+
+        while (index < length) {
+            final char c = path.charAt(index);
+
+            if (c != '%') {
+                decoded.append(c);
+                index++;
+                continue;
+            }
+
+            if (bytes == null) {
+                bytes = new byte[(length - index) / 3];
+            }
+
+            int count = 0;
+
+            while (index < length && path.charAt(index) == '%') {
+                if (index + 2 >= length) {
+                    return null;
+                }
+
+                final int high = Character.digit(path.charAt(index + 1), 16);
+                final int low = Character.digit(path.charAt(index + 2), 16);
+
+                if (high < 0 || low < 0) {
+                    return null;
+                }
+
+                bytes[count++] = (byte) ((high << 4) | low);
+                index += 3;
+            }
+
+            decoded.append(new String(bytes, 0, count, StandardCharsets.UTF_8));
+        }
+
+        return decoded.toString();
+    }
+
+    /**
+     * 引数として渡された {@code path} を実行中のプラットフォームのパス形式へ変換します。
+     * <p>
+     * Windows環境ではドライブレターの前に付与されている区切り文字を取り除きます。
+     *
+     * @param path URL形式のパス
+     * @return 実行中のプラットフォームのパス形式
+     */
+    private static String toPlatformPath(final String path) {
+
+        if (File.separatorChar != '/' && path.length() > 2 && path.charAt(0) == '/' && path.charAt(2) == ':') {
+            return path.substring(1);
+        }
+
+        return path;
+    }
+
+    /**
+     * ファイルシステム上のパスへ変換できないことを示す例外を生成します。
+     *
+     * @param location 変換対象の領域
+     * @param cause    失敗の原因
+     * @return ファイルシステム上のパスへ変換できないことを示す例外
+     */
+    private static InvalidClassLocationException unsupported(final Location location, final Throwable cause) {
+        return new InvalidClassLocationException(FailureReason.UNSUPPORTED_SCHEME, location.toString(), cause,
+                ClassLocationSettings.isLightweightExceptions());
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.classlocation;
+
+/**
+ * ハッシュ値ごとの参照頻度を固定の領域で近似的に記録します。
+ * <p>
+ * Count-Min Sketch により4つの計数器の最小値を参照頻度とします。計数器は4ビットで上限は {@code 15} であり、
+ * 上限エントリ数あたり16個の計数器を {@code long} 配列へ詰めて保持します。記録回数が上限エントリ数の10倍に達すると
+ * 全ての計数器を半減させるため、過去の参照頻度は徐々に失われます。スレッドセーフではありません。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+final class FrequencySketch {
+
+    /**
+     * 計数器の選択に使用する乱数の種
+     */
+    private static final long[] SEEDS = { 0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL,
+            0xcbf29ce484222325L };
+
+    /**
+     * 計数器の上限
+     */
+    private static final int MAXIMUM_COUNT = 15;
+
+    /**
+     * 全ての計数器を半減させる際のマスク
+     */
+    private static final long HALF_MASK = 0x7777777777777777L;
+
+    /**
+     * 4ビットの計数器を16個ずつ詰めた配列
+     */
+    private final long[] table;
+
+    /**
+     * 計数器の添字を算出するためのマスク
+     */
+    private final int mask;
+
+    /**
+     * 計数器を半減させるまでの記録回数
+     */
+    private final int sampleSize;
+
+    /**
+     * 前回の半減以降の記録回数
+     */
+    private int additions;
+
+    /**
+     * コンストラクタ
+     *
+     * @param maximumEntries キャッシュのエントリ数の上限
+     */
+    FrequencySketch(final int maximumEntries) {
+        final int capacity = Math.min(Math.max(maximumEntries, 16), 1 << 20);
+        this.table = new long[Integer.highestOneBit(capacity - 1) << 1];
+        this.mask = (this.table.length << 4) - 1;
+        this.sampleSize = (int) Math.min(10L * capacity, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 引数として渡されたハッシュ値の参照頻度を返却します。
+     *
+     * @param hash ハッシュ値
+     * @return 参照頻度
+     */
+    int frequency(final int hash) {
+
+        int frequency = MAXIMUM_COUNT;
+
+        for (int i = 0; i < SEEDS.length; i++) {
+            frequency = Math.min(frequency, this.countOf(this.indexOf(hash, i)));
+        }
+
+        return frequency;
+    }
+
+    /**
+     * 引数として渡されたハッシュ値の参照を記録します。
+     *
+     * @param hash ハッシュ値
+     */
+    void increment(final int hash) {
+
+        boolean added = false;
+
+        for (int i = 0; i < SEEDS.length; i++) {
+            final int index = this.indexOf(hash, i);
+
+            if (this.countOf(index) < MAXIMUM_COUNT) {
+                this.table[index >>> 4] += 1L << ((index & 15) << 2);
+                added = true;
+            }
+        }
+
+        if (added && ++this.additions >= this.sampleSize) {
+            this.halve();
+        }
+    }
+
+    /**
+     * 全ての計数器を半減させます。
+     */
+    private void halve() {
+
+        for (int i = 0; i < this.table.length; i++) {
+            this.table[i] = (this.table[i] >>> 1) & HALF_MASK;
+        }
+
+        this.additions >>>= 1;
+    }
+
+    /**
+     * 引数として渡された添字の計数器の値を返却します。
+     *
+     * @param index 計数器の添字
+     * @return 計数器の値
+     */
+    private int countOf(final int index) {
+        return (int) (this.table[index >>> 4] >>> ((index & 15) << 2)) & MAXIMUM_COUNT;
+    }
+
+    /**
+     * 引数として渡されたハッシュ値と種の添字から計数器の添字を算出します。
+     *
+     * @param hash ハッシュ値
+     * @param seed 種の添字
+     * @return 計数器の添字
+     */
+    private int indexOf(final int hash, final int seed) {
+        long mixed = (hash + SEEDS[seed]) * SEEDS[seed];
+        mixed += mixed >>> 32;
+        return (int) mixed & this.mask;
+    }
+}
@@ -14,6 +14,8 @@
 
 package org.thinkit.framework.classlocation;
 
+import org.thinkit.framework.classlocation.catalog.FailureReason;
+
 /**
  * Thrown to indicate that a method has been passed an illegal or inappropriate
  * list.
@@ -29,12 +31,30 @@ final class InvalidClassLocationException extends RuntimeException {
      */
     private static final long serialVersionUID = 0L;
 
+    /**
+     * The reason of the failure, or <tt>null</tt> if the detail message was given
+     * explicitly.
+     */
+    private final FailureReason reason;
+
+    /**
+     * The detail embedded in the message built from {@link #reason}.
+     */
+    private final String detail;
+
+    /**
+     * The lazily built detail message.
+     */
+    private transient String message;
+
     /**
      * Constructs an <code>InvalidClassLocationException</code> with no detail
      * message.
      */
     public InvalidClassLocationException() {
         super();
+        this.reason = null;
+        this.detail = null;
     }
 
     /**
@@ -45,6 +65,8 @@ final class InvalidClassLocationException extends RuntimeException {
      */
     public InvalidClassLocationException(String s) {
         super(s);
+        this.reason = null;
+        this.detail = null;
     }
 
     /**
@@ -63,6 +85,8 @@ final class InvalidClassLocationException extends RuntimeException {
      */
     public InvalidClassLocationException(String message, Throwable cause) {
         super(message, cause);
+        this.reason = null;
+        this.detail = null;
     }
 
     /**
@@ -80,5 +104,45 @@ final class InvalidClassLocationException extends RuntimeException {
      */
     public InvalidClassLocationException(Throwable cause) {
         super(cause);
+        this.reason = null;
+        this.detail = null;
+    }
+
+    /**
+     * Constructs an <code>InvalidClassLocationException</code> whose detail message is built
+     * from the specified reason and detail only when it is first requested.
+     * <p>
+     * If <code>lightweight</code> is <code>true</code>, neither the stack trace
+     * nor suppressed exceptions are recorded, which makes the exception cheap
+     * enough to be created on failure-heavy paths.
+     *
+     * @param reason      the reason of the failure.
+     * @param detail      the detail embedded in the message.
+     * @param cause       the cause (A <tt>null</tt> value is permitted, and
+     *                    indicates that the cause is nonexistent or unknown.)
+     * @param lightweight whether the stack trace is omitted.
+     * @since 1.0
+     */
+    InvalidClassLocationException(FailureReason reason, String detail, Throwable cause, boolean lightweight) {
+        super(null, cause, !lightweight, !lightweight);
+        this.reason = reason;
+        this.detail = detail;
+    }
+
+    @Override
+    public String getMessage() {
+
+        if (this.reason == null) {
+            return super.getMessage();
+        }
+
+        String message = this.message;
+
+        if (message == null) {
+            message = this.reason.format(this.detail);
+            this.message = message;
+        }
+
+        return message;
     }
 }
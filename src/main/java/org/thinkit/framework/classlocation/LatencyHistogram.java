@@ -0,0 +1,126 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.classlocation;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 処理時間を固定の区間ごとに集計するヒストグラムです。
+ * <p>
+ * 区間の上限は {@code 1024} ナノ秒から4倍ずつ増加し、最後の区間は上限を持ちません。集計には {@link LongAdder}
+ * を使用するため、複数のスレッドから同時に記録しても競合しにくい構造になっています。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+final class LatencyHistogram {
+
+    /**
+     * 区間の数
+     */
+    static final int BUCKET_COUNT = 10;
+
+    /**
+     * 記録回数
+     */
+    private final LongAdder count = new LongAdder();
+
+    /**
+     * 処理時間の合計(ナノ秒)
+     */
+    private final LongAdder totalNanos = new LongAdder();
+
+    /**
+     * 区間ごとの記録回数
+     */
+    private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    LatencyHistogram() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            this.buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * 処理時間を記録します。
+     *
+     * @param nanos 処理時間(ナノ秒)
+     */
+    void record(final long nanos) {
+        this.count.increment();
+        this.totalNanos.add(nanos);
+        this.buckets[bucketOf(nanos)].increment();
+    }
+
+    /**
+     * 記録内容を破棄します。
+     */
+    void reset() {
+
+        this.count.reset();
+        this.totalNanos.reset();
+
+        for (LongAdder bucket : this.buckets) {
+            bucket.reset();
+        }
+    }
+
+    /**
+     * 現時点の記録内容を返却します。
+     *
+     * @return 現時点の記録内容
+     */
+    LatencySnapshot snapshot() {
+
+        final long[] counts = new long[BUCKET_COUNT];
+
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = this.buckets[i].sum();
+        }
+
+        return new LatencySnapshot(this.count.sum(), this.totalNanos.sum(), counts);
+    }
+
+    /**
+     * 引数として渡された処理時間が属する区間の添字を返却します。
+     *
+     * @param nanos 処理時間(ナノ秒)
+     * @return 区間の添字
+     */
+    static int bucketOf(final long nanos) {
+
+        final int bitLength = Long.SIZE - Long.numberOfLeadingZeros(nanos);
+
+        if (nanos < 0 || bitLength <= 10) {
+            return 0;
+        }
+
+        return Math.min((bitLength - 9) / 2, BUCKET_COUNT - 1);
+    }
+
+    /**
+     * 引数として渡された添字の区間の上限を返却します。
+     *
+     * @param bucket 区間の添字
+     * @return 区間の上限(ナノ秒、上限を含まない)。最後の区間の場合は {@link Long#MAX_VALUE}
+     */
+    static long upperBoundOf(final int bucket) {
+        return bucket == BUCKET_COUNT - 1 ? Long.MAX_VALUE : 1024L << (2 * bucket);
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.classlocation;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * ある時点における処理時間の集計結果を保持します。
+ * <p>
+ * 区間ごとの記録回数は {@link #getBucketUpperBounds()} が返却する上限と同じ順序で格納されます。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+@ToString
+@EqualsAndHashCode
+public final class LatencySnapshot {
+
+    /**
+     * 記録回数
+     */
+    @Getter
+    private final long count;
+
+    /**
+     * 処理時間の合計(ナノ秒)
+     */
+    @Getter
+    private final long totalNanos;
+
+    /**
+     * 区間ごとの記録回数
+     */
+    private final long[] buckets;
+
+    /**
+     * コンストラクタ
+     *
+     * @param count      記録回数
+     * @param totalNanos 処理時間の合計(ナノ秒)
+     * @param buckets    区間ごとの記録回数
+     */
+    LatencySnapshot(final long count, final long totalNanos, final long[] buckets) {
+        this.count = count;
+        this.totalNanos = totalNanos;
+        this.buckets = buckets;
+    }
+
+    /**
+     * 処理時間の平均を返却します。
+     *
+     * @return 処理時間の平均(ナノ秒)。記録が存在しない場合は {@code 0}
+     */
+    public double getMeanNanos() {
+        return this.count == 0 ? 0 : (double) this.totalNanos / this.count;
+    }
+
+    /**
+     * 区間ごとの記録回数を返却します。
+     *
+     * @return 区間ごとの記録回数の複製
+     */
+    public long[] getBuckets() {
+        return this.buckets.clone();
+    }
+
+    /**
+     * 各区間の上限を返却します。
+     *
+     * @return 各区間の上限(ナノ秒、上限を含まない)。最後の区間は {@link Long#MAX_VALUE}
+     */
+    public static long[] getBucketUpperBounds() {
+
+        final long[] upperBounds = new long[LatencyHistogram.BUCKET_COUNT];
+
+        for (int i = 0; i < upperBounds.length; i++) {
+            upperBounds[i] = LatencyHistogram.upperBoundOf(i);
+        }
+
+        return upperBounds;
+    }
+}
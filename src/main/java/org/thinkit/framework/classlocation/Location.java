@@ -0,0 +1,416 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.classlocation;
+
+import java.io.File;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.thinkit.framework.classlocation.catalog.FailureReason;
+import org.thinkit.framework.classlocation.catalog.PathPrefix;
+
+import lombok.NonNull;
+
+/**
+ * クラスが格納されている領域を表す不変の値です。
+ * <p>
+ * {@link URL} と異なり、等価性の判定とハッシュ値の計算は文字列の比較のみで行われ、ホスト名の解決は発生しません。
+ * ハッシュ値は生成時に計算されるため、 {@link java.util.Map} や {@link java.util.Set} のキーとして使用する場合も低コストです。
+ * <p>
+ * {@link URL} 、 {@link URI} 、 {@link File} および {@link Path} への変換結果は初回の変換時に保持され、2回目以降は再変換を行いません。
+ *
+ * <pre>
+ * 例:
+ * >> <code>"file:/path/to/hoge-hoge.jar"</code>
+ *
+ * 上記の場合は以下のような値を保持します。
+ * >> スキーム : <code>"file"</code>
+ * >> パス : <code>"/path/to/hoge-hoge.jar"</code>
+ * </pre>
+ *
+ * <p>
+ * jarファイルの中に格納されたjarファイルのような入れ子のアーカイブの場合は、外側のアーカイブと内側のエントリの両方を保持します。
+ *
+ * <pre>
+ * 例:
+ * >> <code>"jar:file:/path/to/app.jar!/BOOT-INF/lib/dep.jar!/"</code>
+ *
+ * 上記の場合は以下のような値を保持します。
+ * >> スキーム : <code>"file"</code>
+ * >> パス : <code>"/path/to/app.jar"</code>
+ * >> エントリ : <code>"BOOT-INF/lib/dep.jar"</code>
+ * >> 外部表現 : <code>"jar:file:/path/to/app.jar!/BOOT-INF/lib/dep.jar"</code>
+ * </pre>
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+public final class Location {
+
+    /**
+     * アーカイブ内のエントリの区切り文字
+     */
+    private static final String ENTRY_SEPARATOR = "!/";
+
+    /**
+     * スキーム
+     */
+    private final String scheme;
+
+    /**
+     * スキーム固有部分のパス
+     */
+    private final String path;
+
+    /**
+     * 入れ子のアーカイブ内のエントリ
+     */
+    private final String entry;
+
+    /**
+     * 外部表現
+     */
+    private final String externalForm;
+
+    /**
+     * ハッシュ値
+     */
+    private final int hash;
+
+    /**
+     * 外側のアーカイブの領域
+     */
+    private volatile Location archive;
+
+    /**
+     * 変換済みの {@link URL} オブジェクト
+     */
+    private volatile URL url;
+
+    /**
+     * 変換済みの {@link URI} オブジェクト
+     */
+    private volatile URI uri;
+
+    /**
+     * 変換済みの {@link File} オブジェクト
+     */
+    private volatile File file;
+
+    /**
+     * 変換済みの {@link Path} オブジェクト
+     */
+    private volatile Path nioPath;
+
+    /**
+     * コンストラクタ
+     *
+     * @param scheme       スキーム
+     * @param path         スキーム固有部分のパス
+     * @param entry        入れ子のアーカイブ内のエントリ
+     * @param externalForm 外部表現
+     */
+    private Location(final String scheme, final String path, final String entry, final String externalForm) {
+        this.scheme = scheme;
+        this.path = path;
+        this.entry = entry;
+        this.externalForm = externalForm;
+        this.hash = externalForm.hashCode();
+    }
+
+    /**
+     * 引数として渡された {@code externalForm} を解析し {@link Location} クラスのインスタンスを生成し返却します。
+     * <p>
+     * 接頭語が {@link PathPrefix#jar()} の場合はアーカイブとして解析し、末尾の {@code "!/"} を取り除きます。
+     * アーカイブの中に更にエントリが指定されている場合は入れ子のアーカイブとして解析します。
+     *
+     * @param externalForm 領域の外部表現
+     * @return 引数として渡された {@code externalForm} が示す {@link Location} クラスのインスタンス
+     *
+     * @exception NullPointerException     引数として {@code null} が渡された場合
+     * @exception IllegalArgumentException 引数として渡された {@code externalForm} にスキームが含まれていない場合
+     */
+    public static Location parse(@NonNull final String externalForm) {
+        return parse(externalForm, externalForm.length());
+    }
+
+    /**
+     * 引数として渡された {@code url} の先頭から {@code end} までの範囲を解析し {@link Location}
+     * クラスのインスタンスを生成し返却します。
+     * <p>
+     * 解析は範囲を一度だけ走査して行い、生成する文字列はパス、エントリおよび外部表現のみです。既知のスキームは
+     * {@link PathPrefix#classify(String, int)} により文字列を生成せずに判定されます。
+     *
+     * @param url 領域の外部表現を先頭に含む文字列
+     * @param end 解析する範囲の終了位置 (この位置を含まない)
+     * @return 引数として渡された範囲が示す {@link Location} クラスのインスタンス
+     *
+     * @exception IllegalArgumentException 解析する範囲にスキームが含まれていない場合
+     */
+    static Location parse(final String url, final int end) {
+
+        final PathPrefix prefix = PathPrefix.classify(url);
+        final boolean archive = prefix == PathPrefix.JAR;
+        final int begin = archive ? PathPrefix.jar().length() : 0;
+        final PathPrefix schemePrefix = archive ? PathPrefix.classify(url, begin) : prefix;
+        final int schemeEnd = schemePrefix != null ? begin + schemePrefix.getScheme().length() : url.indexOf(':', begin);
+
+        if (schemeEnd <= begin || schemeEnd >= end) {
+            throw new IllegalArgumentException(String.format("Scheme was not found in %s", url.substring(0, end)));
+        }
+
+        final String scheme = schemePrefix != null ? schemePrefix.getScheme() : url.substring(begin, schemeEnd);
+
+        if (!archive) {
+            final int pathEnd = prefix == PathPrefix.JRT && url.charAt(end - 1) == '/' ? end - 1 : end;
+            return new Location(scheme, url.substring(schemeEnd + 1, pathEnd), null, url.substring(0, pathEnd));
+        }
+
+        final int separator = url.indexOf(ENTRY_SEPARATOR, schemeEnd);
+        final int archiveEnd = separator < 0 || separator >= end ? end : separator;
+        final int entryBegin = archiveEnd + ENTRY_SEPARATOR.length();
+        int entryEnd = end;
+
+        if (url.startsWith(ENTRY_SEPARATOR, entryEnd - ENTRY_SEPARATOR.length())) {
+            entryEnd -= ENTRY_SEPARATOR.length();
+        } else if (entryEnd > entryBegin && url.charAt(entryEnd - 1) == '/') {
+            entryEnd--;
+        }
+
+        final String path = url.substring(schemeEnd + 1, archiveEnd);
+
+        if (entryBegin >= entryEnd) {
+            return new Location(scheme, path, null, url.substring(begin, archiveEnd));
+        }
+
+        return new Location(scheme, path, url.substring(entryBegin, entryEnd), url.substring(0, entryEnd));
+    }
+
+    /**
+     * 引数として渡された {@code url} を基に {@link Location} クラスのインスタンスを生成し返却します。
+     * <p>
+     * 引数として渡された {@code url} が正規化済みの場合、生成されたインスタンスの {@link #toUrl()} は {@code url} をそのまま返却します。
+     *
+     * @param url 領域へのURL
+     * @return 引数として渡された {@code url} が示す {@link Location} クラスのインスタンス
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    public static Location of(@NonNull final URL url) {
+
+        final String externalForm = url.toExternalForm();
+        final Location location = parse(externalForm);
+
+        if (location.externalForm.equals(externalForm)) {
+            location.url = url;
+        }
+
+        return location;
+    }
+
+    /**
+     * スキームを返却します。入れ子のアーカイブの場合は外側のアーカイブのスキームを返却します。
+     *
+     * @return スキーム
+     */
+    public String getScheme() {
+        return this.scheme;
+    }
+
+    /**
+     * スキーム固有部分のパスを返却します。パスはパーセントエンコーディングされた状態で返却されます。
+     * 入れ子のアーカイブの場合は外側のアーカイブのパスを返却します。
+     *
+     * @return スキーム固有部分のパス
+     */
+    public String getPath() {
+        return this.path;
+    }
+
+    /**
+     * 入れ子のアーカイブ内のエントリを返却します。
+     *
+     * @return 入れ子のアーカイブ内のエントリ (例: {@code "BOOT-INF/lib/dep.jar"}) 。入れ子のアーカイブではない場合は空の
+     *         {@link Optional}
+     */
+    public Optional<String> getEntry() {
+        return Optional.ofNullable(this.entry);
+    }
+
+    /**
+     * 入れ子のアーカイブか判定します。
+     *
+     * @return 入れ子のアーカイブの場合は {@code true} 、それ以外は {@code false}
+     */
+    public boolean isNested() {
+        return this.entry != null;
+    }
+
+    /**
+     * 外側のアーカイブの領域を返却します。入れ子のアーカイブではない場合はこのインスタンスを返却します。
+     *
+     * @return 外側のアーカイブの領域
+     */
+    public Location getArchive() {
+
+        if (this.entry == null) {
+            return this;
+        }
+
+        Location archive = this.archive;
+
+        if (archive == null) {
+            archive = LocationInterner.intern(new Location(this.scheme, this.path, null,
+                    this.externalForm.substring(PathPrefix.jar().length(), this.externalForm.indexOf(ENTRY_SEPARATOR))));
+            this.archive = archive;
+        }
+
+        return archive;
+    }
+
+    /**
+     * この領域を {@link URL} オブジェクトとして返却します。
+     *
+     * @return この領域を示す {@link URL} オブジェクト
+     *
+     * @throws InvalidClassLocationException 外部表現を {@link URL} オブジェクトへ変換する処理が失敗した場合
+     */
+    public URL toUrl() {
+
+        URL url = this.url;
+
+        if (url == null) {
+            try {
+                url = new URL(this.externalForm);
+            } catch (MalformedURLException e) {
+                throw this.malformed(e);
+            }
+
+            this.url = url;
+        }
+
+        return url;
+    }
+
+    /**
+     * この領域を {@link URI} オブジェクトとして返却します。
+     *
+     * @return この領域を示す {@link URI} オブジェクト
+     *
+     * @throws InvalidClassLocationException 外部表現を {@link URI} オブジェクトへ変換する処理が失敗した場合
+     */
+    public URI toUri() {
+
+        URI uri = this.uri;
+
+        if (uri == null) {
+            try {
+                uri = URI.create(this.externalForm);
+            } catch (IllegalArgumentException e) {
+                throw this.malformed(e);
+            }
+
+            this.uri = uri;
+        }
+
+        return uri;
+    }
+
+    /**
+     * この領域を {@link File} オブジェクトとして返却します。
+     *
+     * @return この領域を示す {@link File} オブジェクト
+     *
+     * @throws InvalidClassLocationException スキームが {@code "file"} ではない場合、または、外部表現の形式が不正な場合
+     */
+    public File toFile() {
+
+        File file = this.file;
+
+        if (file == null) {
+            file = FileUrlDecoder.toFile(this);
+            this.file = file;
+        }
+
+        return file;
+    }
+
+    /**
+     * この領域を {@link Path} オブジェクトとして返却します。
+     * <p>
+     * {@code "file"} 以外のスキームは対応する {@link java.nio.file.FileSystem} が利用可能な場合に限り変換されます。
+     *
+     * @return この領域を示す {@link Path} オブジェクト
+     *
+     * @throws InvalidClassLocationException スキームに対応する {@link java.nio.file.FileSystem}
+     *                                       が存在しない場合、または、外部表現の形式が不正な場合
+     */
+    public Path toPath() {
+
+        Path nioPath = this.nioPath;
+
+        if (nioPath == null) {
+            nioPath = FileUrlDecoder.toPath(this);
+            this.nioPath = nioPath;
+        }
+
+        return nioPath;
+    }
+
+    /**
+     * 形式が不正であることを示す例外を生成します。
+     *
+     * @param cause 失敗の原因
+     * @return 形式が不正であることを示す例外
+     */
+    private InvalidClassLocationException malformed(final Throwable cause) {
+        return new InvalidClassLocationException(FailureReason.MALFORMED_URL, this.externalForm, cause,
+                ClassLocationSettings.isLightweightExceptions());
+    }
+
+    @Override
+    public boolean equals(final Object object) {
+
+        if (this == object) {
+            return true;
+        }
+
+        if (!(object instanceof Location)) {
+            return false;
+        }
+
+        final Location other = (Location) object;
+        return this.hash == other.hash && this.externalForm.equals(other.externalForm);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hash;
+    }
+
+    /**
+     * 外部表現を返却します。
+     *
+     * @return 外部表現
+     */
+    @Override
+    public String toString() {
+        return this.externalForm;
+    }
+}
@@ -0,0 +1,525 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.classlocation;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.thinkit.framework.classlocation.catalog.EvictionCause;
+
+import com.google.common.collect.MapMaker;
+
+import lombok.NonNull;
+
+/**
+ * 領域の解決結果をクラスローダーとクラス名毎に保持するキャッシュです。
+ * <p>
+ * クラスローダーは弱参照で保持されるため、アンロードされたクラスローダーに紐づく解決結果はキャッシュから自動的に取り除かれます。
+ * ブートストラップクラスローダーを示す {@code null} に紐づく解決結果は専用の領域に保持されます。
+ * <p>
+ * 保持するエントリ数は {@link ClassLocationSettings#getMaxCacheEntries()} を上限とし、上限を超えた場合は
+ * {@link ClassLocationSettings#getCacheEvictionPolicy()} に応じて選択したエントリを取り除きます。
+ * 解決結果の参照はロックを取得せずに行い、参照順序の記録はロックを即座に取得できた場合のみ行います。
+ * <p>
+ * 取り除かれた解決結果は、取り除かれたエントリに紐づくクラスローダー毎に {@link CacheEvictionEvent} として記録されます。
+ * 回収されたクラスローダーに紐づく解決結果は、次に解決結果を保持する際に記録されます。
+ * <p>
+ * 解決に失敗した結果も失敗理由とともに保持し、同じクラスローダーの探索を繰り返さないようにします。失敗した結果は
+ * {@link ClassLocationSettings#getNegativeCacheTtl()} の経過後、または、 {@link #invalidateFailures(ClassLoader)}
+ * の呼び出しにより無効となります。
+ * <p>
+ * {@link #clear()} を呼び出すとキャッシュの世代が進み、 {@link ClassLocation} が個別に保持している解決結果も無効となります。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+final class LocationCache {
+
+    /**
+     * ブートストラップクラスローダーの説明
+     */
+    private static final String BOOTSTRAP = LocationEvents.describe(null);
+
+    /**
+     * クラスローダーをキーとした解決結果の領域
+     */
+    private static final ConcurrentMap<ClassLoader, LoaderReference> RESULTS = new MapMaker().weakKeys().makeMap();
+
+    /**
+     * ブートストラップクラスローダーに紐づくクラスを基にした検索の解決結果
+     */
+    private static final ConcurrentMap<String, CacheEntry> BOOTSTRAP_CLASS_RESULTS = new ConcurrentHashMap<>();
+
+    /**
+     * ブートストラップクラスローダーに紐づくクラス名を基にした検索の解決結果
+     */
+    private static final ConcurrentMap<String, CacheEntry> BOOTSTRAP_NAME_RESULTS = new ConcurrentHashMap<>();
+
+    /**
+     * 回収されたクラスローダーの通知先
+     */
+    private static final ReferenceQueue<ClassLoader> COLLECTED = new ReferenceQueue<>();
+
+    /**
+     * 回収を監視しているクラスローダーの参照
+     */
+    private static final Set<LoaderReference> REFERENCES = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 取り除かれたエントリ数
+     */
+    private static final LongAdder EVICTIONS = new LongAdder();
+
+    /**
+     * 参照順序を保護するロック
+     */
+    private static final ReentrantLock LOCK = new ReentrantLock();
+
+    /**
+     * 取り除くエントリの選択方針
+     */
+    private static EvictionStrategy strategy = newStrategy();
+
+    /**
+     * キャッシュの世代
+     */
+    private static volatile int generation;
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    private LocationCache() {
+    }
+
+    /**
+     * 引数として渡された {@code loader} と {@code binaryName} に紐づく解決結果を返却します。
+     * <p>
+     * クラスを基にした検索とクラス名を基にした検索は解決方法が異なるため、互いの解決結果は参照しません。
+     *
+     * @param loader     クラスローダー。ブートストラップクラスローダーの場合は {@code null}
+     * @param binaryName クラスのバイナリ名
+     * @param byName     クラス名を基にした検索の場合は {@code true} 、クラスを基にした検索の場合は {@code false}
+     * @return 引数として渡された {@code loader} と {@code binaryName} に紐づく解決結果。存在しない場合は
+     *         {@code null}
+     *
+     * @exception NullPointerException 引数として渡された {@code binaryName} が {@code null} の場合
+     */
+    static LocationResult get(final ClassLoader loader, @NonNull final String binaryName, final boolean byName) {
+
+        final ConcurrentMap<String, CacheEntry> results = find(loader, byName);
+        CacheEntry entry = results == null ? null : results.get(binaryName);
+
+        if (entry != null && entry.isExpired(System.nanoTime())) {
+            remove(entry);
+            entry = null;
+        }
+
+        if (LOCK.tryLock()) {
+            try {
+                if (entry != null) {
+                    strategy.access(entry);
+                } else {
+                    strategy.miss(CacheEntry.hash(loader, binaryName, byName));
+                }
+            } finally {
+                LOCK.unlock();
+            }
+        }
+
+        return entry == null ? null : entry.result;
+    }
+
+    /**
+     * 引数として渡された {@code loader} と {@code binaryName} に紐づく解決結果を保持します。
+     * <p>
+     * エントリ数が上限を超えた場合は選択方針に応じてエントリを取り除きます。追加した解決結果自身が取り除かれる場合もあります。
+     * 解決に失敗した結果は {@link ClassLocationSettings#getNegativeCacheTtl()} が {@code 0} の場合は保持しません。
+     * 保持する前に {@link #clear()} が呼び出された場合、解決結果は破棄後の領域へ残らないよう保持されません。
+     *
+     * @param loader     クラスローダー。ブートストラップクラスローダーの場合は {@code null}
+     * @param binaryName クラスのバイナリ名
+     * @param byName     クラス名を基にした検索の場合は {@code true} 、クラスを基にした検索の場合は {@code false}
+     * @param result     解決結果
+     *
+     * @exception NullPointerException 引数として渡された {@code binaryName} または {@code result} が
+     *                                 {@code null} の場合
+     */
+    static void put(final ClassLoader loader, @NonNull final String binaryName, final boolean byName,
+            @NonNull final LocationResult result) {
+
+        long expiresAt = 0;
+
+        if (!result.isSuccess()) {
+            final long ttl = ClassLocationSettings.getNegativeCacheTtl().toNanos();
+
+            if (ttl <= 0) {
+                return;
+            }
+
+            // 期間は上限に切り詰められており、有効期限は差分で比較するため加算の桁あふれは判定に影響しない
+            expiresAt = System.nanoTime() + ttl;
+        }
+
+        final int generation = LocationCache.generation;
+        final LoaderReference reference = loader == null ? null : referenceOf(loader);
+        final ConcurrentMap<String, CacheEntry> results = reference == null
+                ? (byName ? BOOTSTRAP_NAME_RESULTS : BOOTSTRAP_CLASS_RESULTS)
+                : reference.results(byName);
+        final CacheEntry entry = new CacheEntry(results, reference == null ? BOOTSTRAP : reference.description,
+                binaryName, CacheEntry.hash(loader, binaryName, byName), result, expiresAt);
+        final List<CacheEntry> evicted = new ArrayList<>(1);
+
+        LOCK.lock();
+
+        try {
+            // 領域の取得後に破棄された場合、破棄前の領域へ追加すると選択方針のみがエントリを参照し続けるため追加しない
+            if (generation != LocationCache.generation) {
+                return;
+            }
+
+            final CacheEntry previous = results.put(binaryName, entry);
+
+            if (previous != null) {
+                strategy.remove(previous);
+            }
+
+            strategy.insert(entry, evicted);
+
+            for (CacheEntry victim : evicted) {
+                victim.owner.remove(victim.binaryName, victim);
+            }
+        } finally {
+            LOCK.unlock();
+        }
+
+        if (!evicted.isEmpty()) {
+            EVICTIONS.add(evicted.size());
+            recordEvictions(evicted);
+        }
+
+        expunge();
+    }
+
+    /**
+     * 引数として渡された {@code loader} に紐づく解決に失敗した結果を全て破棄します。
+     * <p>
+     * クラスローダーへクラスリソースが追加された場合など、以前は失敗した検索が成功する可能性がある場合に使用します。
+     *
+     * @param loader クラスローダー。ブートストラップクラスローダーの場合は {@code null}
+     */
+    static void invalidateFailures(final ClassLoader loader) {
+
+        invalidateFailures(find(loader, false));
+        invalidateFailures(find(loader, true));
+    }
+
+    /**
+     * 全てのクラスローダーに紐づく解決に失敗した結果を破棄します。
+     */
+    static void invalidateFailures() {
+
+        invalidateFailures(BOOTSTRAP_CLASS_RESULTS);
+        invalidateFailures(BOOTSTRAP_NAME_RESULTS);
+
+        for (LoaderReference reference : RESULTS.values()) {
+            invalidateFailures(reference.classResults);
+            invalidateFailures(reference.nameResults);
+        }
+    }
+
+    /**
+     * 引数として渡された {@code results} から解決に失敗した結果を破棄します。
+     *
+     * @param results 解決結果の領域。存在しない場合は {@code null}
+     */
+    private static void invalidateFailures(final ConcurrentMap<String, CacheEntry> results) {
+
+        if (results == null) {
+            return;
+        }
+
+        for (CacheEntry entry : results.values()) {
+            if (!entry.result.isSuccess()) {
+                remove(entry);
+            }
+        }
+    }
+
+    /**
+     * 引数として渡されたエントリを取り除きます。既に取り除かれている場合は何もしません。
+     *
+     * @param entry 取り除くエントリ
+     */
+    private static void remove(final CacheEntry entry) {
+
+        LOCK.lock();
+
+        try {
+            if (entry.owner.remove(entry.binaryName, entry)) {
+                strategy.remove(entry);
+            }
+        } finally {
+            LOCK.unlock();
+        }
+    }
+
+    /**
+     * 保持している解決結果の数を返却します。
+     *
+     * @return 保持している解決結果の数
+     */
+    static int size() {
+
+        int size = BOOTSTRAP_CLASS_RESULTS.size() + BOOTSTRAP_NAME_RESULTS.size();
+
+        for (LoaderReference reference : RESULTS.values()) {
+            size += reference.classResults.size() + reference.nameResults.size();
+        }
+
+        return size;
+    }
+
+    /**
+     * 上限の超過およびクラスローダーの回収により取り除かれたエントリ数を返却します。
+     *
+     * @return 取り除かれたエントリ数
+     */
+    static long evictionCount() {
+        return EVICTIONS.sum();
+    }
+
+    /**
+     * キャッシュの世代を返却します。
+     *
+     * @return キャッシュの世代
+     */
+    static int generation() {
+        return generation;
+    }
+
+    /**
+     * 保持している解決結果を全て破棄し、キャッシュの世代を進めます。
+     * <p>
+     * エントリ数の上限と選択方針は {@link ClassLocationSettings} の現在の設定値で再構成されます。
+     */
+    static void clear() {
+
+        LOCK.lock();
+
+        try {
+            generation++;
+            strategy = newStrategy();
+            RESULTS.clear();
+            BOOTSTRAP_CLASS_RESULTS.clear();
+            BOOTSTRAP_NAME_RESULTS.clear();
+            REFERENCES.clear();
+        } finally {
+            LOCK.unlock();
+        }
+    }
+
+    /**
+     * 保持している解決結果を領域毎に集計したクラス数を返却します。
+     *
+     * @return 領域をキーとしたクラス数
+     */
+    static Map<Location, Integer> countByLocation() {
+
+        final Map<Location, Integer> counts = new HashMap<>();
+        countByLocation(BOOTSTRAP_CLASS_RESULTS, counts);
+        countByLocation(BOOTSTRAP_NAME_RESULTS, counts);
+
+        for (LoaderReference reference : RESULTS.values()) {
+            countByLocation(reference.classResults, counts);
+            countByLocation(reference.nameResults, counts);
+        }
+
+        return counts;
+    }
+
+    /**
+     * 引数として渡された {@code results} を領域毎に集計し {@code counts} へ加算します。
+     *
+     * @param results 解決結果
+     * @param counts  領域をキーとしたクラス数
+     */
+    private static void countByLocation(final Map<String, CacheEntry> results, final Map<Location, Integer> counts) {
+        for (CacheEntry entry : results.values()) {
+            entry.result.getLocation().ifPresent(location -> counts.merge(location, 1, Integer::sum));
+        }
+    }
+
+    /**
+     * {@link ClassLocationSettings} の現在の設定値で {@link EvictionStrategy} を生成します。
+     *
+     * @return {@link EvictionStrategy}
+     */
+    private static EvictionStrategy newStrategy() {
+        return EvictionStrategy.of(ClassLocationSettings.getCacheEvictionPolicy(),
+                ClassLocationSettings.getMaxCacheEntries());
+    }
+
+    /**
+     * 引数として渡された {@code loader} と検索の種類に紐づく解決結果の領域を返却します。
+     *
+     * @param loader クラスローダー。ブートストラップクラスローダーの場合は {@code null}
+     * @param byName クラス名を基にした検索の場合は {@code true} 、クラスを基にした検索の場合は {@code false}
+     * @return 引数として渡された {@code loader} と検索の種類に紐づく解決結果の領域。存在しない場合は {@code null}
+     */
+    private static ConcurrentMap<String, CacheEntry> find(final ClassLoader loader, final boolean byName) {
+
+        if (loader == null) {
+            return byName ? BOOTSTRAP_NAME_RESULTS : BOOTSTRAP_CLASS_RESULTS;
+        }
+
+        final LoaderReference reference = RESULTS.get(loader);
+        return reference == null ? null : reference.results(byName);
+    }
+
+    /**
+     * 引数として渡された {@code loader} の参照を返却します。参照が存在しない場合は解決結果の領域とともに生成し、
+     * クラスローダーの回収の監視を開始します。
+     *
+     * @param loader クラスローダー
+     * @return 引数として渡された {@code loader} の参照
+     */
+    private static LoaderReference referenceOf(final ClassLoader loader) {
+
+        final LoaderReference reference = RESULTS.get(loader);
+
+        if (reference != null) {
+            return reference;
+        }
+
+        final LoaderReference created = new LoaderReference(loader);
+        final LoaderReference existing = RESULTS.putIfAbsent(loader, created);
+
+        if (existing != null) {
+            return existing;
+        }
+
+        REFERENCES.add(created);
+        return created;
+    }
+
+    /**
+     * 上限の超過により取り除かれたエントリを、エントリに紐づくクラスローダー毎に記録します。
+     * <p>
+     * クラスローダーの説明はクラスローダー毎に生成済みの文字列を使用するため、記録時に文字列は生成されません。
+     *
+     * @param evicted 取り除かれたエントリ
+     */
+    private static void recordEvictions(final List<CacheEntry> evicted) {
+
+        int begin = 0;
+
+        for (int i = 1; i <= evicted.size(); i++) {
+            if (i == evicted.size() || evicted.get(i).loader != evicted.get(begin).loader) {
+                LocationEvents.eviction(evicted.get(begin).loader, i - begin, EvictionCause.SIZE);
+                begin = i;
+            }
+        }
+    }
+
+    /**
+     * 回収されたクラスローダーに紐づく解決結果を取り除き、取り除かれたエントリとして記録します。
+     */
+    private static void expunge() {
+
+        Reference<? extends ClassLoader> reference;
+
+        while ((reference = COLLECTED.poll()) != null) {
+            final LoaderReference loaderReference = (LoaderReference) reference;
+
+            if (!REFERENCES.remove(loaderReference)) {
+                continue;
+            }
+
+            int entries = 0;
+            LOCK.lock();
+
+            try {
+                for (CacheEntry entry : loaderReference.classResults.values()) {
+                    strategy.remove(entry);
+                    entries++;
+                }
+
+                for (CacheEntry entry : loaderReference.nameResults.values()) {
+                    strategy.remove(entry);
+                    entries++;
+                }
+            } finally {
+                LOCK.unlock();
+            }
+
+            EVICTIONS.add(entries);
+            LocationEvents.eviction(loaderReference.description, entries, EvictionCause.COLLECTED);
+        }
+    }
+
+    /**
+     * 回収を監視するクラスローダーの参照です。
+     * <p>
+     * クラスローダーが回収された後も解決結果を取り除けるよう、クラスローダーの説明と解決結果の領域を保持します。
+     */
+    private static final class LoaderReference extends WeakReference<ClassLoader> {
+
+        /**
+         * クラスローダーの説明
+         */
+        private final String description;
+
+        /**
+         * クラスを基にした検索の解決結果の領域
+         */
+        private final ConcurrentMap<String, CacheEntry> classResults = new ConcurrentHashMap<>();
+
+        /**
+         * クラス名を基にした検索の解決結果の領域
+         */
+        private final ConcurrentMap<String, CacheEntry> nameResults = new ConcurrentHashMap<>();
+
+        /**
+         * コンストラクタ
+         *
+         * @param loader クラスローダー
+         */
+        LoaderReference(final ClassLoader loader) {
+            super(loader, COLLECTED);
+            this.description = LocationEvents.describe(loader);
+        }
+
+        /**
+         * 検索の種類に紐づく解決結果の領域を返却します。
+         *
+         * @param byName クラス名を基にした検索の場合は {@code true} 、クラスを基にした検索の場合は {@code false}
+         * @return 検索の種類に紐づく解決結果の領域
+         */
+        ConcurrentMap<String, CacheEntry> results(final boolean byName) {
+            return byName ? this.nameResults : this.classResults;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.classlocation;
+
+import java.net.URL;
+
+import org.thinkit.framework.classlocation.catalog.EvictionCause;
+import org.thinkit.framework.classlocation.catalog.ResolutionPath;
+
+/**
+ * クラスの基準ファイルパスの検索に関するJFRイベントを記録します。
+ * <p>
+ * 各イベントの属性はイベントが記録対象となる場合のみ設定されるため、JFRが無効な場合は文字列の生成を行いません。
+ * また、 {@code jdk.jfr} モジュールを含まない実行環境ではイベントクラスを一切ロードせず、記録を行いません。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+final class LocationEvents {
+
+    /**
+     * イベントを記録可能か
+     * <p>
+     * {@code jdk.jfr} モジュールを含まない実行環境ではイベントクラスをロードできないため、この値が {@code false} の場合はイベントを生成しません。
+     */
+    private static final boolean AVAILABLE = ModuleLayer.boot().findModule("jdk.jfr").isPresent();
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    private LocationEvents() {
+    }
+
+    /**
+     * 解決の計測を開始したイベントを返却します。
+     *
+     * @return {@link LookupEvent#begin()} が呼び出されたイベント。イベントを記録できない場合は {@code null}
+     */
+    static LookupEvent beginLookup() {
+
+        if (!AVAILABLE) {
+            return null;
+        }
+
+        final LookupEvent event = new LookupEvent();
+        event.begin();
+
+        return event;
+    }
+
+    /**
+     * クラスリソースの検索の計測を開始したイベントを返却します。
+     *
+     * @return {@link FallbackEvent#begin()} が呼び出されたイベント。イベントを記録できない場合は {@code null}
+     */
+    static FallbackEvent beginFallback() {
+
+        if (!AVAILABLE) {
+            return null;
+        }
+
+        final FallbackEvent event = new FallbackEvent();
+        event.begin();
+
+        return event;
+    }
+
+    /**
+     * 解決を記録します。解決に失敗した場合は失敗も記録します。
+     *
+     * @param event      {@link #beginLookup()} が返却したイベント。イベントを記録できない場合は {@code null}
+     * @param binaryName クラスのバイナリ名
+     * @param loader     クラスローダー
+     * @param path       解決経路
+     * @param result     解決結果
+     */
+    static void lookup(final LookupEvent event, final String binaryName, final ClassLoader loader,
+            final ResolutionPath path, final LocationResult result) {
+
+        if (event == null) {
+            return;
+        }
+
+        if (event.shouldCommit()) {
+            event.className = binaryName;
+            event.classLoader = describe(loader);
+            event.resolutionPath = path.name();
+            event.location = result.getLocation().map(Location::toString).orElse(null);
+            event.success = result.isSuccess();
+            event.commit();
+        }
+
+        if (!result.isSuccess()) {
+            final FailureEvent failure = new FailureEvent();
+
+            if (failure.shouldCommit()) {
+                failure.className = binaryName;
+                failure.classLoader = describe(loader);
+                failure.reason = result.reason().name();
+                failure.detail = result.getDetail().orElse(null);
+                failure.commit();
+            }
+        }
+    }
+
+    /**
+     * クラスリソースの検索を記録します。
+     *
+     * @param event         {@link #beginFallback()} が返却したイベント。イベントを記録できない場合は {@code null}
+     * @param binaryName    クラスのバイナリ名
+     * @param resourceName  クラスリソース名
+     * @param classResource 検索されたクラスリソース。存在しない場合は {@code null}
+     */
+    static void fallback(final FallbackEvent event, final String binaryName, final String resourceName,
+            final URL classResource) {
+
+        if (event != null && event.shouldCommit()) {
+            event.className = binaryName;
+            event.resourceName = resourceName;
+            event.resource = classResource == null ? null : classResource.toString();
+            event.commit();
+        }
+    }
+
+    /**
+     * キャッシュから取り除かれたエントリを記録します。
+     *
+     * @param classLoader 取り除かれたエントリに紐づくクラスローダーの説明
+     * @param entries     取り除かれたエントリ数
+     * @param cause       取り除かれた原因
+     */
+    static void eviction(final String classLoader, final int entries, final EvictionCause cause) {
+
+        if (!AVAILABLE) {
+            return;
+        }
+
+        final CacheEvictionEvent event = new CacheEvictionEvent();
+
+        if (event.shouldCommit()) {
+            event.classLoader = classLoader;
+            event.entries = entries;
+            event.cause = cause.name();
+            event.commit();
+        }
+    }
+
+    /**
+     * 引数として渡されたクラスローダーの説明を返却します。
+     *
+     * @param loader クラスローダー。ブートストラップクラスローダーの場合は {@code null}
+     * @return クラスローダーの説明
+     */
+    static String describe(final ClassLoader loader) {
+
+        if (loader == null) {
+            return "bootstrap";
+        }
+
+        final String name = loader.getName();
+        final String type = loader.getClass().getName();
+
+        return (name == null ? type : name + " " + type) + "@" + Integer.toHexString(System.identityHashCode(loader));
+    }
+}
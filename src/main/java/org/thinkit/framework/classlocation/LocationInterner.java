@@ -0,0 +1,84 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.classlocation;
+
+import java.security.CodeSource;
+import java.util.concurrent.ConcurrentMap;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import com.google.common.collect.MapMaker;
+
+import lombok.NonNull;
+
+/**
+ * 同一の領域を示す {@link Location} を正規化されたインスタンスへ集約する表です。
+ * <p>
+ * 同一のjarファイルやディレクトリに格納されているクラスはすべて同一の {@link Location} インスタンスを共有します。
+ * そのため、 {@link Location} が保持する {@link java.net.URL} などの変換結果も領域毎に一つだけ生成されます。
+ * <p>
+ * 表に登録されたインスタンスおよび {@link CodeSource} は弱参照で保持されるため、
+ * クラスローダーがアンロードされ参照されなくなった領域は表からも自動的に取り除かれます。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+final class LocationInterner {
+
+    /**
+     * 正規化された {@link Location} の表
+     */
+    private static final Interner<Location> LOCATIONS = Interners.newWeakInterner();
+
+    /**
+     * {@link CodeSource} をキーとした正規化された {@link Location} の表
+     * <p>
+     * キーは同一性で比較されるため、 {@link CodeSource#equals(Object)} による {@link java.net.URL} の比較は発生しません。
+     */
+    private static final ConcurrentMap<CodeSource, Location> CODE_SOURCES = new MapMaker().weakKeys().makeMap();
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    private LocationInterner() {
+    }
+
+    /**
+     * 引数として渡された {@code location} と等価な正規化されたインスタンスを返却します。
+     *
+     * @param location 正規化対象の領域
+     * @return 引数として渡された {@code location} と等価な正規化されたインスタンス
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    static Location intern(@NonNull final Location location) {
+        return LOCATIONS.intern(location);
+    }
+
+    /**
+     * 引数として渡された {@code codeSource} の位置を示す正規化されたインスタンスを返却します。
+     * <p>
+     * 同一の {@link CodeSource} に対する2回目以降の呼び出しは位置の解析を行いません。
+     *
+     * @param codeSource 位置が設定されている {@link CodeSource}
+     * @return 引数として渡された {@code codeSource} の位置を示す正規化されたインスタンス
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    static Location of(@NonNull final CodeSource codeSource) {
+        return CODE_SOURCES.computeIfAbsent(codeSource, key -> intern(Location.of(key.getLocation())));
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.classlocation;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.thinkit.framework.classlocation.catalog.FailureReason;
+import org.thinkit.framework.classlocation.catalog.ResolutionPath;
+
+/**
+ * クラスの基準ファイルパスの検索に関する統計情報を集計します。
+ * <p>
+ * 集計は {@link ClassLocationSettings#isMetricsEnabled()} が {@code true} の場合のみ行われます。無効な場合、
+ * 検索処理は設定値を参照するだけで時刻の取得や集計は行いません。
+ *
+ * <pre>
+ * 統計情報を取得する場合:
+ * <code>
+ * ClassLocationSettings.setMetricsEnabled(true);
+ * ...
+ * LocationMetricsSnapshot snapshot = LocationMetrics.snapshot();
+ * double hitRatio = snapshot.getHitRatio();
+ * LatencySnapshot fallback = snapshot.getLatency(ResolutionPath.RESOURCE);
+ * </code>
+ * </pre>
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+public final class LocationMetrics {
+
+    /**
+     * 集計が無効な場合の開始時刻
+     */
+    static final long NOT_STARTED = Long.MIN_VALUE;
+
+    /**
+     * 解決済みの結果を返却した回数
+     */
+    private static final LongAdder HITS = new LongAdder();
+
+    /**
+     * 解決処理を行った回数
+     */
+    private static final LongAdder MISSES = new LongAdder();
+
+    /**
+     * 解決経路ごとの処理時間
+     */
+    private static final LatencyHistogram[] PATHS = histograms(ResolutionPath.values().length);
+
+    /**
+     * 失敗理由ごとの処理時間
+     */
+    private static final LatencyHistogram[] FAILURES = histograms(FailureReason.values().length);
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    private LocationMetrics() {
+    }
+
+    /**
+     * 現時点の統計情報を返却します。
+     *
+     * @return 現時点の統計情報
+     */
+    public static LocationMetricsSnapshot snapshot() {
+
+        final Map<ResolutionPath, LatencySnapshot> paths = new EnumMap<>(ResolutionPath.class);
+        final Map<FailureReason, LatencySnapshot> failures = new EnumMap<>(FailureReason.class);
+
+        for (ResolutionPath path : ResolutionPath.values()) {
+            paths.put(path, PATHS[path.ordinal()].snapshot());
+        }
+
+        for (FailureReason reason : FailureReason.values()) {
+            failures.put(reason, FAILURES[reason.ordinal()].snapshot());
+        }
+
+        return new LocationMetricsSnapshot(HITS.sum(), MISSES.sum(), paths, failures);
+    }
+
+    /**
+     * 集計済みの統計情報を破棄します。
+     */
+    public static void reset() {
+
+        HITS.reset();
+        MISSES.reset();
+
+        for (LatencyHistogram histogram : PATHS) {
+            histogram.reset();
+        }
+
+        for (LatencyHistogram histogram : FAILURES) {
+            histogram.reset();
+        }
+    }
+
+    /**
+     * 解決済みの結果を返却したことを記録します。
+     */
+    static void hit() {
+        if (ClassLocationSettings.isMetricsEnabled()) {
+            HITS.increment();
+        }
+    }
+
+    /**
+     * 解決処理を行ったことを記録します。
+     */
+    static void miss() {
+        if (ClassLocationSettings.isMetricsEnabled()) {
+            MISSES.increment();
+        }
+    }
+
+    /**
+     * 処理時間の計測を開始します。
+     *
+     * @return 開始時刻。集計が無効な場合は {@link #NOT_STARTED}
+     */
+    static long start() {
+        return ClassLocationSettings.isMetricsEnabled() ? System.nanoTime() : NOT_STARTED;
+    }
+
+    /**
+     * 解決経路と処理時間を記録し、引数として渡された {@code result} をそのまま返却します。
+     * <p>
+     * 解決に失敗した場合は失敗理由ごとの処理時間も記録します。開始時刻が {@link #NOT_STARTED} の場合は何も記録しません。
+     *
+     * @param path   解決経路
+     * @param start  {@link #start()} が返却した開始時刻
+     * @param result 解決結果
+     * @return 引数として渡された {@code result}
+     */
+    static LocationResult record(final ResolutionPath path, final long start, final LocationResult result) {
+
+        if (start != NOT_STARTED) {
+            final long elapsed = System.nanoTime() - start;
+            PATHS[path.ordinal()].record(elapsed);
+
+            if (!result.isSuccess()) {
+                FAILURES[result.reason().ordinal()].record(elapsed);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * 引数として渡された数のヒストグラムを生成します。
+     *
+     * @param size ヒストグラムの数
+     * @return ヒストグラムの配列
+     */
+    private static LatencyHistogram[] histograms(final int size) {
+
+        final LatencyHistogram[] histograms = new LatencyHistogram[size];
+
+        for (int i = 0; i < size; i++) {
+            histograms[i] = new LatencyHistogram();
+        }
+
+        return histograms;
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.classlocation;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.thinkit.framework.classlocation.catalog.FailureReason;
+import org.thinkit.framework.classlocation.catalog.ResolutionPath;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * ある時点における {@link LocationMetrics} の統計情報を保持します。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+@ToString
+@EqualsAndHashCode
+public final class LocationMetricsSnapshot {
+
+    /**
+     * 解決済みの結果を返却した回数
+     */
+    @Getter
+    private final long hits;
+
+    /**
+     * 解決処理を行った回数
+     */
+    @Getter
+    private final long misses;
+
+    /**
+     * 解決経路ごとの処理時間
+     */
+    private final Map<ResolutionPath, LatencySnapshot> paths;
+
+    /**
+     * 失敗理由ごとの処理時間
+     */
+    private final Map<FailureReason, LatencySnapshot> failures;
+
+    /**
+     * コンストラクタ
+     *
+     * @param hits     解決済みの結果を返却した回数
+     * @param misses   解決処理を行った回数
+     * @param paths    解決経路ごとの処理時間
+     * @param failures 失敗理由ごとの処理時間
+     */
+    LocationMetricsSnapshot(final long hits, final long misses, final Map<ResolutionPath, LatencySnapshot> paths,
+            final Map<FailureReason, LatencySnapshot> failures) {
+        this.hits = hits;
+        this.misses = misses;
+        this.paths = Collections.unmodifiableMap(paths);
+        this.failures = Collections.unmodifiableMap(failures);
+    }
+
+    /**
+     * 解決済みの結果を返却した割合を返却します。
+     *
+     * @return 解決済みの結果を返却した割合。検索が行われていない場合は {@code 0}
+     */
+    public double getHitRatio() {
+        final long total = this.hits + this.misses;
+        return total == 0 ? 0 : (double) this.hits / total;
+    }
+
+    /**
+     * 引数として渡された解決経路の処理時間を返却します。
+     *
+     * @param path 解決経路
+     * @return 引数として渡された解決経路の処理時間
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    public LatencySnapshot getLatency(@NonNull final ResolutionPath path) {
+        return this.paths.get(path);
+    }
+
+    /**
+     * 引数として渡された失敗理由の処理時間を返却します。
+     *
+     * @param reason 失敗理由
+     * @return 引数として渡された失敗理由の処理時間
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    public LatencySnapshot getLatency(@NonNull final FailureReason reason) {
+        return this.failures.get(reason);
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.classlocation;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+import org.thinkit.framework.classlocation.spi.LocationResolver;
+
+import lombok.NonNull;
+
+/**
+ * {@link ServiceLoader} から読み込んだ {@link LocationResolver} をスキーム毎に振り分ける表です。
+ * <p>
+ * 表は初回の参照時に一度だけ構築され、以降の振り分けはスキームをキーとした一度のハッシュ検索で行われます。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+final class LocationResolvers {
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    private LocationResolvers() {
+    }
+
+    /**
+     * 引数として渡された {@code scheme} を解決する {@link LocationResolver} を返却します。
+     *
+     * @param scheme スキーム
+     * @return 引数として渡された {@code scheme} を解決する {@link LocationResolver} 。登録されていない場合は {@code null}
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    static LocationResolver get(@NonNull final String scheme) {
+        return Holder.RESOLVERS.get(scheme);
+    }
+
+    /**
+     * 登録されている {@link LocationResolver} が存在するか判定します。
+     *
+     * @return 登録されている {@link LocationResolver} が存在する場合は {@code true} 、それ以外は {@code false}
+     */
+    static boolean isEmpty() {
+        return Holder.RESOLVERS.isEmpty();
+    }
+
+    /**
+     * スキームをキーとした {@link LocationResolver} の表を遅延して初期化するためのクラスです。
+     */
+    private static final class Holder {
+
+        /**
+         * 読み込みに失敗した実装クラスを読み飛ばす上限数
+         * <p>
+         * {@link ServiceLoader} は読み込みに失敗した後の回復を保証しないため、同一の失敗が繰り返される場合に備えて上限を設けます。
+         */
+        private static final int MAX_PROVIDER_FAILURES = 64;
+
+        /**
+         * スキームをキーとした {@link LocationResolver}
+         */
+        private static final Map<String, LocationResolver> RESOLVERS = load();
+
+        /**
+         * {@link ServiceLoader} から {@link LocationResolver} を読み込み、スキームをキーとした表を構築します。
+         * <p>
+         * 読み込みに失敗した実装クラスは読み飛ばすため、一部の実装クラスの設定誤りにより他の実装クラスや組み込みの解決処理が利用できなくなることはありません。
+         *
+         * @return スキームをキーとした {@link LocationResolver} の表
+         */
+        private static Map<String, LocationResolver> load() {
+
+            final Map<String, LocationResolver> resolvers = new HashMap<>();
+            final Iterator<LocationResolver> providers = ServiceLoader
+                    .load(LocationResolver.class, LocationResolver.class.getClassLoader()).iterator();
+
+            for (int failures = 0; failures < MAX_PROVIDER_FAILURES;) {
+                try {
+                    if (!providers.hasNext()) {
+                        break;
+                    }
+
+                    final LocationResolver resolver = providers.next();
+
+                    for (String scheme : resolver.getSchemes()) {
+                        resolvers.putIfAbsent(scheme, resolver);
+                    }
+                } catch (ServiceConfigurationError e) {
+                    failures++;
+                }
+            }
+
+            return Collections.unmodifiableMap(resolvers);
+        }
+    }
+}
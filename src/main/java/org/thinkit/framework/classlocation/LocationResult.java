@@ -0,0 +1,227 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.classlocation;
+
+import java.net.URL;
+import java.util.Optional;
+
+import org.thinkit.framework.classlocation.catalog.FailureReason;
+
+import lombok.EqualsAndHashCode;
+import lombok.NonNull;
+import lombok.ToString;
+
+/**
+ * クラスの基準ファイルパスの解決結果を保持します。
+ * <p>
+ * 解決に成功した場合はクラスが格納されている領域を、解決に失敗した場合は失敗理由を保持します。解決の失敗を例外ではなく値として扱うため、
+ * 解決に失敗するクラスを頻繁に検索する場合でも例外の生成コストが発生しません。
+ *
+ * <pre>
+ * 例外を使用せずに解決結果を判定する場合:
+ * <code>
+ * LocationResult result = ClassLocation.of(clazz).tryToUrl();
+ *
+ * if (result.isSuccess()) {
+ *     URL classUrl = result.orElseThrow();
+ * }
+ * </code>
+ * </pre>
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+@ToString(doNotUseGetters = true)
+@EqualsAndHashCode(doNotUseGetters = true)
+public final class LocationResult {
+
+    /**
+     * クラスが格納されている領域
+     */
+    private final Location location;
+
+    /**
+     * 失敗理由
+     */
+    private final FailureReason reason;
+
+    /**
+     * 失敗の詳細情報
+     */
+    private final String detail;
+
+    /**
+     * 失敗の原因
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final Throwable cause;
+
+    /**
+     * コンストラクタ
+     *
+     * @param location クラスが格納されている領域
+     * @param reason   失敗理由
+     * @param detail   失敗の詳細情報
+     * @param cause    失敗の原因
+     */
+    private LocationResult(final Location location, final FailureReason reason, final String detail,
+            final Throwable cause) {
+        this.location = location;
+        this.reason = reason;
+        this.detail = detail;
+        this.cause = cause;
+    }
+
+    /**
+     * 解決に成功した結果を返却します。
+     *
+     * @param location クラスが格納されている領域
+     * @return 解決に成功した結果
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    static LocationResult success(@NonNull final Location location) {
+        return new LocationResult(location, null, null, null);
+    }
+
+    /**
+     * 解決に失敗した結果を返却します。
+     *
+     * @param reason 失敗理由
+     * @param detail 失敗の詳細情報
+     * @return 解決に失敗した結果
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    static LocationResult failure(@NonNull final FailureReason reason, @NonNull final String detail) {
+        return new LocationResult(null, reason, detail, null);
+    }
+
+    /**
+     * 解決に失敗した結果を返却します。
+     *
+     * @param reason 失敗理由
+     * @param detail 失敗の詳細情報
+     * @param cause  失敗の原因
+     * @return 解決に失敗した結果
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    static LocationResult failure(@NonNull final FailureReason reason, @NonNull final String detail,
+            @NonNull final Throwable cause) {
+        return new LocationResult(null, reason, detail, cause);
+    }
+
+    /**
+     * 解決に成功したか判定します。
+     *
+     * @return 解決に成功した場合は {@code true} 、それ以外は {@code false}
+     */
+    public boolean isSuccess() {
+        return this.location != null;
+    }
+
+    /**
+     * クラスが格納されている領域を返却します。
+     *
+     * @return クラスが格納されている領域。解決に失敗した場合は空の {@link Optional}
+     */
+    public Optional<Location> getLocation() {
+        return Optional.ofNullable(this.location);
+    }
+
+    /**
+     * 基準ファイルパスを返却します。
+     *
+     * @return 基準ファイルパス。解決に失敗した場合は空の {@link Optional}
+     *
+     * @throws InvalidClassLocationException 領域を {@link URL} オブジェクトへ変換する処理が失敗した場合
+     */
+    public Optional<URL> getUrl() {
+        return this.location == null ? Optional.empty() : Optional.of(this.location.toUrl());
+    }
+
+    /**
+     * 失敗理由を返却します。
+     *
+     * @return 失敗理由。解決に成功した場合は空の {@link Optional}
+     */
+    public Optional<FailureReason> getReason() {
+        return Optional.ofNullable(this.reason);
+    }
+
+    /**
+     * 失敗理由を返却します。
+     *
+     * @return 失敗理由。解決に成功した場合は {@code null}
+     */
+    FailureReason reason() {
+        return this.reason;
+    }
+
+    /**
+     * 失敗の詳細情報を返却します。詳細情報には失敗理由に応じて検索したクラスリソース名、または、不正と判定されたURLが設定されます。
+     *
+     * @return 失敗の詳細情報。解決に成功した場合は空の {@link Optional}
+     */
+    public Optional<String> getDetail() {
+        return Optional.ofNullable(this.detail);
+    }
+
+    /**
+     * 解決に成功した場合は基準ファイルパスを返却し、解決に失敗した場合は失敗理由に応じた例外を送出します。
+     *
+     * @return 基準ファイルパス
+     *
+     * @throws ClassResourceNotFoundException クラス名に紐づくクラスリソースが存在しない場合
+     * @throws InvalidClassLocationException  クラスから取得したURLの接尾語が不正な場合、
+     *                                        または、クラスから取得したURLを {@link URL}
+     *                                        オブジェクトへ変換する処理が失敗した場合
+     *
+     * @see #locationOrElseThrow()
+     */
+    public URL orElseThrow() {
+        return this.locationOrElseThrow().toUrl();
+    }
+
+    /**
+     * 解決に成功した場合はクラスが格納されている領域を返却し、解決に失敗した場合は失敗理由に応じた例外を送出します。
+     * <p>
+     * 送出される例外のメッセージは失敗理由と詳細情報から必要になった時点で生成されます。また、
+     * {@link ClassLocationSettings#isLightweightExceptions()} が {@code true} の場合はスタックトレースを取得しません。
+     *
+     * @return クラスが格納されている領域
+     *
+     * @throws ClassResourceNotFoundException クラス名に紐づくクラスリソースが存在しない場合
+     * @throws InvalidClassLocationException  クラスから取得したURLの接尾語が不正な場合、
+     *                                        または、クラスから取得したURLの形式が不正な場合
+     */
+    public Location locationOrElseThrow() {
+
+        if (this.location != null) {
+            return this.location;
+        }
+
+        final boolean lightweight = ClassLocationSettings.isLightweightExceptions();
+
+        if (this.reason == FailureReason.CLASS_RESOURCE_NOT_FOUND) {
+            throw new ClassResourceNotFoundException(this.reason, this.detail, this.cause, lightweight);
+        }
+
+        throw new InvalidClassLocationException(this.reason, this.detail, this.cause, lightweight);
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.classlocation;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * クラスの基準ファイルパスの解決を記録するJFRイベントです。
+ * <p>
+ * 解決済みの結果を返却した検索は記録されません。閾値は JFR の設定で
+ * {@code org.thinkit.framework.classlocation.Lookup#threshold} として変更できます。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+@Name("org.thinkit.framework.classlocation.Lookup")
+@Label("Class Location Lookup")
+@Category("Class Location")
+@Description("Resolution of the location a class was loaded from")
+@StackTrace(false)
+final class LookupEvent extends Event {
+
+    /**
+     * クラスのバイナリ名
+     */
+    @Label("Class Name")
+    String className;
+
+    /**
+     * クラスローダー
+     */
+    @Label("Class Loader")
+    String classLoader;
+
+    /**
+     * 解決経路
+     */
+    @Label("Resolution Path")
+    String resolutionPath;
+
+    /**
+     * クラスが格納されている領域
+     */
+    @Label("Location")
+    String location;
+
+    /**
+     * 解決に成功したか
+     */
+    @Label("Success")
+    boolean success;
+}
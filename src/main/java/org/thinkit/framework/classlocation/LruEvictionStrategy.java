@@ -0,0 +1,68 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.classlocation;
+
+import java.util.List;
+
+/**
+ * 最後に参照されてから最も時間が経過したエントリを取り除く {@link EvictionStrategy} です。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+final class LruEvictionStrategy extends EvictionStrategy {
+
+    /**
+     * エントリ数の上限
+     */
+    private final int maximumEntries;
+
+    /**
+     * 参照順序
+     */
+    private final AccessOrderList entries = new AccessOrderList();
+
+    /**
+     * コンストラクタ
+     *
+     * @param maximumEntries エントリ数の上限
+     */
+    LruEvictionStrategy(final int maximumEntries) {
+        this.maximumEntries = maximumEntries;
+    }
+
+    @Override
+    void access(final CacheEntry entry) {
+        if (entry.list == this.entries) {
+            this.entries.moveToFront(entry);
+        }
+    }
+
+    @Override
+    void miss(final int hash) {
+        // 参照頻度は使用しない
+    }
+
+    @Override
+    void insert(final CacheEntry entry, final List<CacheEntry> evicted) {
+
+        this.entries.addFirst(entry);
+
+        while (this.entries.size() > this.maximumEntries) {
+            evicted.add(this.entries.removeLast());
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.classlocation;
+
+import java.lang.module.ModuleReference;
+import java.lang.module.ResolvedModule;
+import java.net.URI;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentMap;
+
+import com.google.common.collect.MapMaker;
+
+import lombok.NonNull;
+
+/**
+ * 名前付きモジュールが格納されている領域をモジュール毎に保持するキャッシュです。
+ * <p>
+ * 領域は {@link ModuleReference#location()} から解決されます。ランタイムイメージに含まれるプラットフォームモジュールの場合は
+ * {@code "jrt:/java.base"} のような領域になります。モジュールは弱参照で保持されるため、
+ * アンロードされたモジュールレイヤーに紐づく領域はキャッシュから自動的に取り除かれます。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+final class ModuleLocations {
+
+    /**
+     * モジュールをキーとした領域
+     */
+    private static final ConcurrentMap<Module, Optional<Location>> LOCATIONS = new MapMaker().weakKeys().makeMap();
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    private ModuleLocations() {
+    }
+
+    /**
+     * 引数として渡された {@code module} が格納されている領域を返却します。
+     *
+     * @param module 名前付きモジュール
+     * @return 引数として渡された {@code module} が格納されている領域。モジュールレイヤーに属さないモジュールや、
+     *         領域を持たないモジュールの場合は {@code null}
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     */
+    static Location of(@NonNull final Module module) {
+        return LOCATIONS.computeIfAbsent(module, ModuleLocations::resolve).orElse(null);
+    }
+
+    /**
+     * 引数として渡された {@code module} が格納されている領域を解決します。
+     *
+     * @param module 名前付きモジュール
+     * @return 引数として渡された {@code module} が格納されている領域
+     */
+    private static Optional<Location> resolve(final Module module) {
+
+        final ModuleLayer layer = module.getLayer();
+
+        if (layer == null) {
+            return Optional.empty();
+        }
+
+        return layer.configuration().findModule(module.getName()).map(ResolvedModule::reference)
+                .flatMap(ModuleReference::location).map(URI::toString).map(Location::parse)
+                .map(LocationInterner::intern);
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.classlocation;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.module.ModuleReader;
+import java.lang.module.ResolvedModule;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+import org.thinkit.framework.classlocation.catalog.PathSuffix;
+
+/**
+ * パッケージに属するクラスのバイナリ名を列挙します。
+ * <p>
+ * 起動レイヤーの名前付きモジュールに属するパッケージはモジュールの内容から、それ以外のパッケージはディレクトリまたはjarファイルから列挙します。
+ * サブパッケージは列挙せず、クラスの読み込みも行いません。無名パッケージは列挙の対象外です。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+final class PackageScanner {
+
+    /**
+     * モジュール記述子およびパッケージ記述子の名前
+     */
+    private static final Set<String> DESCRIPTORS = Set.of("module-info", "package-info");
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    private PackageScanner() {
+    }
+
+    /**
+     * 引数として渡された {@code packages} に属するクラスのバイナリ名を返却します。
+     *
+     * @param packages パッケージ名
+     * @param loader   クラスリソースの検索に使用するクラスローダー。ブートストラップクラスローダーの場合は {@code null}
+     * @return パッケージに属するクラスのバイナリ名。同一の名前は一度だけ含まれる
+     *
+     * @throws IllegalArgumentException 引数として渡された {@code packages} に空のパッケージ名が含まれている場合
+     * @throws UncheckedIOException     クラスリソースの列挙に失敗した場合
+     */
+    static List<String> scan(final Collection<String> packages, final ClassLoader loader) {
+
+        checkPackageNames(packages);
+
+        final ClassLoader resourceLoader = loader != null ? loader : ClassLoader.getPlatformClassLoader();
+        final Set<String> binaryNames = new LinkedHashSet<>();
+
+        try {
+            for (String packageName : packages) {
+                final String directory = packageName.replace('.', '/');
+
+                for (Module module : ModuleLayer.boot().modules()) {
+                    if (module.getClassLoader() == loader && module.getPackages().contains(packageName)) {
+                        scan(module, directory, binaryNames);
+                    }
+                }
+
+                final Enumeration<URL> resources = resourceLoader.getResources(directory);
+
+                while (resources.hasMoreElements()) {
+                    scan(resources.nextElement(), directory, binaryNames);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return new ArrayList<>(binaryNames);
+    }
+
+    /**
+     * 引数として渡された {@code packages} に空のパッケージ名が含まれていないか検査します。
+     * <p>
+     * 無名パッケージのクラスはクラスパスの起点に直接配置されており、jarファイルの起点は列挙できないため対象外とします。
+     *
+     * @param packages パッケージ名
+     *
+     * @throws IllegalArgumentException 引数として渡された {@code packages} に空のパッケージ名が含まれている場合
+     */
+    static void checkPackageNames(final Collection<String> packages) {
+        for (String packageName : packages) {
+            if (packageName.isEmpty()) {
+                throw new IllegalArgumentException("Package name must not be empty");
+            }
+        }
+    }
+
+    /**
+     * 引数として渡された名前付きモジュールの内容からクラスのバイナリ名を列挙します。
+     *
+     * @param module      名前付きモジュール
+     * @param directory   パッケージのディレクトリ名
+     * @param binaryNames 列挙したバイナリ名の格納先
+     *
+     * @throws IOException 列挙に失敗した場合
+     */
+    private static void scan(final Module module, final String directory, final Set<String> binaryNames)
+            throws IOException {
+
+        final Optional<ResolvedModule> resolvedModule = module.getLayer().configuration()
+                .findModule(module.getName());
+
+        if (resolvedModule.isEmpty()) {
+            return;
+        }
+
+        try (ModuleReader reader = resolvedModule.get().reference().open(); Stream<String> names = reader.list()) {
+            names.filter(name -> isDirectChild(name, directory))
+                    .forEach(name -> add(name.substring(directory.length() + 1), directory, binaryNames));
+        }
+    }
+
+    /**
+     * 引数として渡された {@code resource} が示すパッケージの領域からクラスのバイナリ名を列挙します。
+     *
+     * @param resource    パッケージの領域
+     * @param directory   パッケージのディレクトリ名
+     * @param binaryNames 列挙したバイナリ名の格納先
+     *
+     * @throws IOException 列挙に失敗した場合
+     */
+    private static void scan(final URL resource, final String directory, final Set<String> binaryNames)
+            throws IOException {
+
+        final URLConnection connection = resource.openConnection();
+
+        if (connection instanceof JarURLConnection) {
+            connection.setUseCaches(false);
+
+            try (JarFile jarFile = ((JarURLConnection) connection).getJarFile()) {
+                final Enumeration<JarEntry> entries = jarFile.entries();
+
+                while (entries.hasMoreElements()) {
+                    final String name = entries.nextElement().getName();
+
+                    if (isDirectChild(name, directory)) {
+                        add(name.substring(directory.length() + 1), directory, binaryNames);
+                    }
+                }
+            }
+
+            return;
+        }
+
+        final Path path;
+
+        try {
+            path = Paths.get(resource.toURI());
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return;
+        }
+
+        try (Stream<Path> children = Files.list(path)) {
+            children.forEach(child -> add(child.getFileName().toString(), directory, binaryNames));
+        }
+    }
+
+    /**
+     * 引数として渡されたリソース名がパッケージのディレクトリ直下のリソースか判定します。
+     *
+     * @param name      リソース名
+     * @param directory パッケージのディレクトリ名
+     * @return パッケージのディレクトリ直下のリソースの場合は {@code true} 、それ以外は {@code false}
+     */
+    private static boolean isDirectChild(final String name, final String directory) {
+        return name.startsWith(directory) && name.lastIndexOf('/') == directory.length();
+    }
+
+    /**
+     * 引数として渡された {@code fileName} がクラスリソースの場合はバイナリ名を追加します。
+     *
+     * @param fileName    ファイル名
+     * @param directory   パッケージのディレクトリ名
+     * @param binaryNames バイナリ名の格納先
+     */
+    private static void add(final String fileName, final String directory, final Set<String> binaryNames) {
+
+        if (!fileName.endsWith(PathSuffix.clazz())) {
+            return;
+        }
+
+        final String simpleName = fileName.substring(0, fileName.length() - PathSuffix.clazz().length());
+
+        if (!DESCRIPTORS.contains(simpleName)) {
+            binaryNames.add(directory.replace('/', '.') + '.' + simpleName);
+        }
+    }
+}
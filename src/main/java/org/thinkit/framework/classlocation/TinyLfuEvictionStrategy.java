@@ -0,0 +1,109 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.classlocation;
+
+import java.util.List;
+
+/**
+ * W-TinyLFU 方式の受け入れ判定を行う {@link EvictionStrategy} です。
+ * <p>
+ * 新しいエントリは上限の1%の受け入れ領域へ追加されます。受け入れ領域から溢れたエントリは主領域で次に取り除かれる候補と参照頻度を比較され、
+ * 参照頻度が上回る場合のみ主領域へ採用されます。参照頻度は {@link FrequencySketch} によりキャッシュに保持されていないエントリについても推定されるため、
+ * 一度だけ参照されるクラスが大量に検索された場合でも繰り返し参照されるエントリは保持され続けます。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+final class TinyLfuEvictionStrategy extends EvictionStrategy {
+
+    /**
+     * 受け入れ領域の上限
+     */
+    private final int windowMaximum;
+
+    /**
+     * 主領域の上限
+     */
+    private final int mainMaximum;
+
+    /**
+     * 受け入れ領域の参照順序
+     */
+    private final AccessOrderList window = new AccessOrderList();
+
+    /**
+     * 主領域の参照順序
+     */
+    private final AccessOrderList main = new AccessOrderList();
+
+    /**
+     * 参照頻度
+     */
+    private final FrequencySketch sketch;
+
+    /**
+     * コンストラクタ
+     *
+     * @param maximumEntries エントリ数の上限
+     */
+    TinyLfuEvictionStrategy(final int maximumEntries) {
+        this.windowMaximum = Math.max(1, maximumEntries / 100);
+        this.mainMaximum = maximumEntries - this.windowMaximum;
+        this.sketch = new FrequencySketch(maximumEntries);
+    }
+
+    @Override
+    void access(final CacheEntry entry) {
+
+        this.sketch.increment(entry.hash);
+
+        if (entry.list != null) {
+            entry.list.moveToFront(entry);
+        }
+    }
+
+    @Override
+    void miss(final int hash) {
+        this.sketch.increment(hash);
+    }
+
+    @Override
+    void insert(final CacheEntry entry, final List<CacheEntry> evicted) {
+
+        this.window.addFirst(entry);
+
+        if (this.window.size() <= this.windowMaximum) {
+            return;
+        }
+
+        final CacheEntry candidate = this.window.removeLast();
+
+        if (this.main.size() < this.mainMaximum) {
+            this.main.addFirst(candidate);
+            return;
+        }
+
+        final CacheEntry victim = this.main.peekLast();
+
+        if (victim != null && this.sketch.frequency(candidate.hash) > this.sketch.frequency(victim.hash)) {
+            this.main.remove(victim);
+            this.main.addFirst(candidate);
+            evicted.add(victim);
+        } else {
+            evicted.add(candidate);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.classlocation.catalog;
+
+import org.thinkit.common.catalog.Catalog;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 解決結果のキャッシュが上限に達した場合に取り除くエントリの選択方針を管理するカタログです。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+@RequiredArgsConstructor
+public enum EvictionPolicy implements Catalog<EvictionPolicy> {
+
+    /**
+     * 最後に参照されてから最も時間が経過したエントリを取り除く
+     */
+    LRU(0),
+
+    /**
+     * 新しいエントリを小さな領域で受け入れた後、参照頻度が取り除かれる候補を上回る場合のみ主領域へ採用する
+     */
+    TINY_LFU(1);
+
+    /**
+     * コード値
+     */
+    @Getter
+    private final int code;
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.classlocation.catalog;
+
+import org.thinkit.common.catalog.Catalog;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * クラスの基準ファイルパスの解決に失敗した理由を管理するカタログです。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+@RequiredArgsConstructor
+public enum FailureReason implements Catalog<FailureReason> {
+
+    /**
+     * クラス名に紐づくクラスリソースが存在しない
+     */
+    CLASS_RESOURCE_NOT_FOUND(0, "%s not found"),
+
+    /**
+     * クラスから取得したURLの接尾語が不正
+     */
+    INVALID_SUFFIX(1, "Invalid suffix was detected in %s"),
+
+    /**
+     * クラスから取得したURLを {@link java.net.URL} オブジェクトへ変換できない
+     */
+    MALFORMED_URL(2, "Malformed URL was detected in %s"),
+
+    /**
+     * 基準ファイルパスのスキームがファイルシステム上のパスへ変換できない
+     */
+    UNSUPPORTED_SCHEME(3, "Unsupported scheme was detected in %s");
+
+    /**
+     * コード値
+     */
+    @Getter
+    private final int code;
+
+    /**
+     * メッセージの書式
+     */
+    @Getter
+    private final String messageFormat;
+
+    /**
+     * 引数として渡された {@code detail} を埋め込んだメッセージを返却します。
+     *
+     * @param detail メッセージへ埋め込む詳細情報
+     * @return 引数として渡された {@code detail} を埋め込んだメッセージ
+     */
+    public String format(final String detail) {
+        return String.format(this.messageFormat, detail);
+    }
+}
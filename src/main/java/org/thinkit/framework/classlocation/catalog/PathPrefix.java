@@ -17,6 +17,7 @@ package org.thinkit.framework.classlocation.catalog;
 import org.thinkit.common.catalog.Catalog;
 
 import lombok.Getter;
+import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -32,12 +33,28 @@ public enum PathPrefix implements Catalog<PathPrefix> {
     /**
      * 接頭語 : {@code "jar:"}
      */
-    JAR(0, "jar:"),
+    JAR(0, "jar:", "jar"),
 
     /**
      * 接頭語 : {@code "file:/"}
      */
-    FILE(1, "file:/");
+    FILE(1, "file:/", "file"),
+
+    /**
+     * 接頭語 : {@code "jrt:/"}
+     */
+    JRT(2, "jrt:/", "jrt");
+
+    /**
+     * コード値を添字とした要素の表
+     */
+    private static final PathPrefix[] CODES = new PathPrefix[values().length];
+
+    static {
+        for (PathPrefix pathPrefix : values()) {
+            CODES[pathPrefix.code] = pathPrefix;
+        }
+    }
 
     /**
      * コード値
@@ -51,6 +68,68 @@ public enum PathPrefix implements Catalog<PathPrefix> {
     @Getter
     private final String prefix;
 
+    /**
+     * スキーム
+     */
+    @Getter
+    private final String scheme;
+
+    /**
+     * 引数として渡された {@code code} に紐づく要素を返却します。
+     *
+     * @param code コード値
+     * @return 引数として渡された {@code code} に紐づく要素。存在しない場合は {@code null}
+     */
+    public static PathPrefix of(final int code) {
+        return code >= 0 && code < CODES.length ? CODES[code] : null;
+    }
+
+    /**
+     * 引数として渡された {@code url} の接頭語に一致する要素を返却します。
+     *
+     * @param url 判定対象のURL
+     * @return 引数として渡された {@code url} の接頭語に一致する要素。一致する要素が存在しない場合は {@code null}
+     *
+     * @exception NullPointerException 引数として {@code null} が渡された場合
+     *
+     * @see #classify(String, int)
+     */
+    public static PathPrefix classify(@NonNull final String url) {
+        return classify(url, 0);
+    }
+
+    /**
+     * 引数として渡された {@code url} の {@code offset} 以降の接頭語に一致する要素を返却します。
+     * <p>
+     * 先頭の文字で候補を絞り込んだ後に接頭語の範囲のみを比較するため、判定時に文字列を生成しません。
+     *
+     * @param url    判定対象のURL
+     * @param offset 判定を開始する位置
+     * @return 引数として渡された {@code url} の {@code offset} 以降の接頭語に一致する要素。一致する要素が存在しない場合は
+     *         {@code null}
+     *
+     * @exception NullPointerException 引数として渡された {@code url} が {@code null} の場合
+     */
+    public static PathPrefix classify(@NonNull final String url, final int offset) {
+
+        if (offset < 0 || offset >= url.length()) {
+            return null;
+        }
+
+        switch (url.charAt(offset)) {
+            case 'j':
+                if (JAR.matches(url, offset)) {
+                    return JAR;
+                }
+
+                return JRT.matches(url, offset) ? JRT : null;
+            case 'f':
+                return FILE.matches(url, offset) ? FILE : null;
+            default:
+                return null;
+        }
+    }
+
     /**
      * {@link #JAR} 要素の接頭語を返却します。
      *
@@ -72,4 +151,27 @@ public enum PathPrefix implements Catalog<PathPrefix> {
     public static String file() {
         return FILE.getPrefix();
     }
+
+    /**
+     * {@link #JRT} 要素の接頭語を返却します。
+     *
+     * @return {@link #JRT} 要素の接頭語
+     *
+     * @see #JRT
+     */
+    public static String jrt() {
+        return JRT.getPrefix();
+    }
+
+    /**
+     * 引数として渡された {@code url} の {@code offset} 以降がこの要素の接頭語から始まるか判定します。
+     *
+     * @param url    判定対象のURL
+     * @param offset 判定を開始する位置
+     * @return 引数として渡された {@code url} の {@code offset} 以降がこの要素の接頭語から始まる場合は {@code true} 、
+     *         それ以外は {@code false}
+     */
+    private boolean matches(final String url, final int offset) {
+        return url.startsWith(this.prefix, offset);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.classlocation.catalog;
+
+import org.thinkit.common.catalog.Catalog;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * クラスの基準ファイルパスを解決した経路を管理するカタログです。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+@RequiredArgsConstructor
+public enum ResolutionPath implements Catalog<ResolutionPath> {
+
+    /**
+     * {@link java.security.CodeSource} の位置情報から解決
+     */
+    CODE_SOURCE(0),
+
+    /**
+     * 名前付きモジュールの参照情報から解決
+     */
+    MODULE(1),
+
+    /**
+     * クラスリソースの検索により解決
+     */
+    RESOURCE(2),
+
+    /**
+     * 配列の要素型、または、ラムダやプロキシの生成元クラスへ委譲して解決
+     */
+    DELEGATE(3);
+
+    /**
+     * コード値
+     */
+    @Getter
+    private final int code;
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.classlocation.spi;
+
+import java.net.URL;
+import java.util.Set;
+
+import org.thinkit.framework.classlocation.Location;
+
+/**
+ * クラスリソースのURLからクラスが格納されている領域を解決するサービスプロバイダインタフェースです。
+ * <p>
+ * {@code "file"} や {@code "jar"} 以外の独自のスキームを持つクラスリソースの領域を解決する場合に実装します。実装クラスは
+ * {@link java.util.ServiceLoader} の規約に従い {@code META-INF/services/org.thinkit.framework.classlocation.spi.LocationResolver}
+ * に登録してください。登録された実装クラスは初回の解決時に一度だけ読み込まれ、 {@link #getSchemes()} が返却するスキーム毎に振り分けられます。
+ * 同一のスキームを複数の実装クラスが返却した場合は先に読み込まれた実装クラスが優先されます。
+ *
+ * <pre>
+ * 登録例:
+ * <code>
+ * # META-INF/services/org.thinkit.framework.classlocation.spi.LocationResolver
+ * com.example.VfsLocationResolver
+ * </code>
+ * </pre>
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+public interface LocationResolver {
+
+    /**
+     * この実装クラスが解決するスキームを返却します。スキームは {@code ':'} を含まない小文字の文字列 (例: {@code "vfs"}) です。
+     *
+     * @return この実装クラスが解決するスキーム
+     */
+    Set<String> getSchemes();
+
+    /**
+     * 引数として渡された {@code classResource} からクラスが格納されている領域を解決し返却します。
+     *
+     * @param classResource クラスリソースのURL
+     * @param resourceName  クラスリソース名 (例: {@code "com/example/Hoge.class"})
+     * @return クラスが格納されている領域。解決できない場合は {@code null}
+     */
+    Location resolve(URL classResource, String resourceName);
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.classlocation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.net.MalformedURLException;
+import java.net.URL;
+
+import com.sun.management.ThreadMXBean;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link ClassLocation} クラスの定常状態におけるメモリ割り当て量を検証するテストクラスです。
+ * <p>
+ * 割り当て量は {@link ThreadMXBean#getThreadAllocatedBytes(long)} を使用して、繰り返し計測した1回あたりの平均値の最小値として計測します。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+final class ClassLocationAllocationTest {
+
+    /**
+     * 1回の計測における繰り返し回数
+     */
+    private static final int ITERATIONS = 20_000;
+
+    /**
+     * 計測の回数
+     * <p>
+     * 初回の計測は暖機を兼ねます。
+     */
+    private static final int ROUNDS = 5;
+
+    /**
+     * クラスリソースが格納されている領域
+     */
+    private static final String ROOT = "file:/root/classes/";
+
+    /**
+     * 割り当て量の計測に使用する {@link ThreadMXBean}
+     */
+    private static ThreadMXBean threadMXBean;
+
+    /**
+     * 割り当て量を計測できない環境の場合はテストを省略します。
+     */
+    @BeforeAll
+    static void setUp() {
+
+        final java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof ThreadMXBean);
+
+        threadMXBean = (ThreadMXBean) bean;
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported());
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    /**
+     * 解決済みのインスタンスに対する {@link ClassLocation#tryLocate()} がメモリを割り当てないことを検証します。
+     */
+    @Test
+    void testTryLocateDoesNotAllocateInSteadyState() {
+
+        final ClassLocation classLocation = ClassLocation.of("com.example.Hoge",
+                new FixedResourceClassLoader("com.example.Hoge"));
+        final LocationResult expected = classLocation.tryLocate();
+
+        assertTrue(expected.isSuccess());
+        assertTrue(allocatedBytesPerOperation(() -> assertSame(expected, classLocation.tryLocate())) < 1.0);
+    }
+
+    /**
+     * キャッシュを使用しない解決のメモリ割り当て量がクラス名の長さに依存しないことを検証します。
+     * <p>
+     * 割り当て量がクラス名の長さに依存しない場合、クラスリソースのURL全体やクラスリソース名を示す中間の文字列は生成されておらず、
+     * 割り当てられているのは解決結果のみです。
+     */
+    @Test
+    void testResolveUrlAllocatesOnlyTheResult() {
+
+        final ClassLocation shortName = newResolvedClassLocation("com.example.Hoge");
+        final ClassLocation longName = newResolvedClassLocation("com.example." + "nested.".repeat(200) + "Hoge");
+
+        // 解決処理のコンパイル状態が計測の途中で変化しても同じ状態で比較できるよう、交互に計測し最小値を比較する
+        double shortNameBytes = Double.MAX_VALUE;
+        double longNameBytes = Double.MAX_VALUE;
+
+        for (int round = 0; round < ROUNDS; round++) {
+            shortNameBytes = Math.min(shortNameBytes, resolveUrlBytesPerOperation(shortName));
+            longNameBytes = Math.min(longNameBytes, resolveUrlBytesPerOperation(longName));
+        }
+
+        final double expected = shortNameBytes;
+        final double actual = longNameBytes;
+
+        assertTrue(Math.abs(actual - expected) < 64.0,
+                () -> String.format("Allocation grew from %.1f B/op to %.1f B/op with the class name", expected, actual));
+    }
+
+    /**
+     * 引数として渡された {@code binaryName} のクラスに対する解決済みの {@link ClassLocation} を返却します。
+     * <p>
+     * 解決済みの領域をインスタンスに保持させることで、正規化された {@link Location} が計測中に破棄されないようにします。
+     *
+     * @param binaryName 検索対象クラスのバイナリ名
+     * @return 解決済みの {@link ClassLocation}
+     */
+    private static ClassLocation newResolvedClassLocation(final String binaryName) {
+
+        final ClassLocation classLocation = ClassLocation.of(binaryName, new FixedResourceClassLoader(binaryName));
+
+        assertEquals(ROOT, classLocation.toUrl().toString());
+        return classLocation;
+    }
+
+    /**
+     * 引数として渡された {@code classLocation} に対する {@link ClassLocation#resolveUrl()} の1回あたりの割り当て量を返却します。
+     *
+     * @param classLocation 解決済みの {@link ClassLocation}
+     * @return 1回あたりの割り当て量 (バイト)
+     */
+    private static double resolveUrlBytesPerOperation(final ClassLocation classLocation) {
+        final URL expected = classLocation.toUrl();
+        return allocatedBytesPerOperation(() -> assertSame(expected, classLocation.resolveUrl()));
+    }
+
+    /**
+     * 引数として渡された {@code operation} を暖機した後に計測し、1回あたりの割り当て量を返却します。
+     * <p>
+     * 計測中のコンパイルによる揺らぎを除くため、 {@link #ROUNDS} 回計測した中の最小値を返却します。
+     *
+     * @param operation 計測対象の処理
+     * @return 1回あたりの割り当て量 (バイト)
+     */
+    private static double allocatedBytesPerOperation(final Runnable operation) {
+
+        final long threadId = Thread.currentThread().getId();
+        double minimum = Double.MAX_VALUE;
+
+        for (int round = 0; round < ROUNDS; round++) {
+            final long before = threadMXBean.getThreadAllocatedBytes(threadId);
+
+            for (int i = 0; i < ITERATIONS; i++) {
+                operation.run();
+            }
+
+            minimum = Math.min(minimum, (double) (threadMXBean.getThreadAllocatedBytes(threadId) - before) / ITERATIONS);
+        }
+
+        return minimum;
+    }
+
+    /**
+     * 単一のクラスリソースのみを {@link #ROOT} 配下のURLとして返却するクラスローダーです。
+     * <p>
+     * 返却するURLはインスタンス生成時に一度だけ生成するため、クラスリソースの検索自体はメモリを割り当てません。
+     */
+    private static final class FixedResourceClassLoader extends ClassLoader {
+
+        /**
+         * クラスリソース名
+         */
+        private final String resourceName;
+
+        /**
+         * クラスリソースのURL
+         */
+        private final URL resource;
+
+        /**
+         * コンストラクタ
+         *
+         * @param binaryName 検索対象クラスのバイナリ名
+         */
+        FixedResourceClassLoader(final String binaryName) {
+            super(null);
+            this.resourceName = binaryName.replace('.', '/') + ".class";
+
+            try {
+                this.resource = new URL(ROOT + this.resourceName);
+            } catch (MalformedURLException e) {
+                throw new IllegalArgumentException(e);
+            }
+        }
+
+        @Override
+        public URL getResource(final String name) {
+            return this.resourceName.equals(name) ? this.resource : null;
+        }
+    }
+}
@@ -0,0 +1,320 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.classlocation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.net.URLStreamHandler;
+import java.security.CodeSource;
+import java.security.ProtectionDomain;
+import java.security.cert.Certificate;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * {@link ClassLocation} クラスの解決経路を検証するテストクラスです。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+final class ClassLocationTest {
+
+    /**
+     * 隠しクラスとして生成するクラスの内部名
+     * <p>
+     * 同名のクラスリソースは存在しないため、クラス名から領域を推測することはできません。
+     */
+    private static final String GENERATED_CLASS_NAME = "org/thinkit/framework/classlocation/GeneratedHiddenClass";
+
+    /**
+     * {@link SplitLocationClassLoader} で定義するクラスの内部名
+     */
+    private static final String DEFINED_CLASS_NAME = "org/thinkit/framework/classlocation/GeneratedDefinedClass";
+
+    /**
+     * {@link SplitLocationClassLoader} で定義するクラスの {@link CodeSource} の領域
+     */
+    private static final String CODE_SOURCE_ROOT = "file:/root/code-source/";
+
+    /**
+     * {@link SplitLocationClassLoader} が返却するクラスリソースの領域
+     */
+    private static final String RESOURCE_ROOT = "file:/root/resources/";
+
+    /**
+     * ネストメイトではない隠しクラスが、生成元のクラスと同一の {@link java.security.CodeSource} の領域へ解決されることを検証します。
+     * <p>
+     * ネストメイトではない隠しクラスは自身がネストホストとなり、クラス名から推測したクラスリソースも存在しないため、
+     * {@link java.security.CodeSource} により解決される必要があります。隠しクラスを生成できない実行環境では省略されます。
+     *
+     * @throws Exception 隠しクラスの生成に失敗した場合
+     */
+    @Test
+    void testNonNestmateHiddenClassResolvesToCodeSource() throws Exception {
+
+        final Class<?> hidden = defineHiddenClass(GENERATED_CLASS_NAME);
+
+        assertTrue(hidden.getName().startsWith(GENERATED_CLASS_NAME.replace('/', '.') + '/'));
+        assertSame(hidden, hidden.getNestHost());
+
+        final LocationResult result = ClassLocation.of(hidden).tryLocate();
+
+        assertTrue(result.isSuccess(), () -> result.toString());
+        assertEquals(ClassLocation.of(ClassLocationTest.class).toLocation(), result.locationOrElseThrow());
+    }
+
+    /**
+     * クラス名を基にした検索の解決結果が、同一のクラスローダーとバイナリ名のクラスを基にした検索で使用されないことを検証します。
+     * <p>
+     * クラス名を基にした検索はクラスリソースから、クラスを基にした検索は {@link CodeSource} から解決されるため、
+     * 両者の解決結果は異なる場合があります。
+     *
+     * @throws Exception クラスの定義に失敗した場合
+     */
+    @Test
+    void testNameBasedResultIsNotServedToClassBasedLookup() throws Exception {
+
+        final SplitLocationClassLoader loader = new SplitLocationClassLoader(RESOURCE_ROOT);
+        final Class<?> defined = loader.define();
+
+        assertEquals(RESOURCE_ROOT, ClassLocation.of(defined.getName(), loader).toUrl().toString());
+        assertEquals(CODE_SOURCE_ROOT, ClassLocation.of(defined).toUrl().toString());
+        assertEquals(RESOURCE_ROOT, ClassLocation.of(defined.getName(), loader).toUrl().toString());
+    }
+
+    /**
+     * クラスの定義前にクラス名を基にした検索で保持された失敗結果が、定義後のクラスを基にした検索で使用されないことを検証します。
+     *
+     * @throws Exception クラスの定義に失敗した場合
+     */
+    @Test
+    void testNameBasedFailureIsNotServedToClassBasedLookup() throws Exception {
+
+        final SplitLocationClassLoader loader = new SplitLocationClassLoader(null);
+
+        assertFalse(ClassLocation.of(DEFINED_CLASS_NAME.replace('/', '.'), loader).tryLocate().isSuccess());
+
+        final LocationResult result = ClassLocation.of(loader.define()).tryLocate();
+
+        assertTrue(result.isSuccess(), () -> result.toString());
+        assertEquals(CODE_SOURCE_ROOT, result.locationOrElseThrow().toUrl().toString());
+    }
+
+    /**
+     * クラスリソースのURLのスキームに応じて、登録された {@link org.thinkit.framework.classlocation.spi.LocationResolver}
+     * と組み込みの解析処理が使い分けられることを検証します。
+     * <p>
+     * {@link FixedLocationResolver} は {@code "jar"} スキームを登録していますが、内側のスキームが組み込みの {@code jar:}
+     * のURLは組み込みの解析処理で解決されます。
+     *
+     * @param classResource クラスリソースのURL
+     * @param expected      解決された領域の外部表現
+     *
+     * @throws Exception URLの生成に失敗した場合
+     */
+    @ParameterizedTest
+    @CsvSource({ "vfs:/content/app.war/WEB-INF/classes/com/example/Hoge.class, vfs:/resolved/",
+            "jar:nested:/root/app.jar/!BOOT-INF/classes/!/com/example/Hoge.class, vfs:/resolved/",
+            "jar:file:/root/app.jar!/com/example/Hoge.class, file:/root/app.jar",
+            "jar:jrt:/java.base!/com/example/Hoge.class, jrt:/java.base",
+            "file:/root/classes/com/example/Hoge.class, file:/root/classes/" })
+    void testResolverIsChosenByScheme(final String classResource, final String expected) throws Exception {
+
+        final URL resource = new URL(null, classResource, new UnsupportedUrlStreamHandler());
+        final LocationResult result = ClassLocation.of("com.example.Hoge", new SingleResourceClassLoader(resource))
+                .tryLocate();
+
+        assertTrue(result.isSuccess(), () -> result.toString());
+        assertEquals(expected, result.locationOrElseThrow().toString());
+    }
+
+    /**
+     * 引数として渡された {@code internalName} のクラスを、ネストメイトではない隠しクラスとして生成し返却します。
+     * <p>
+     * {@code MethodHandles.Lookup#defineHiddenClass} はJava 15以降でのみ利用可能なため、リフレクションを使用して呼び出します。
+     *
+     * @param internalName 生成するクラスの内部名
+     * @return 生成された隠しクラス
+     *
+     * @throws Exception 隠しクラスの生成に失敗した場合
+     */
+    private static Class<?> defineHiddenClass(final String internalName) throws Exception {
+
+        final Class<?> optionType;
+
+        try {
+            optionType = Class.forName("java.lang.invoke.MethodHandles$Lookup$ClassOption");
+        } catch (ClassNotFoundException e) {
+            assumeTrue(false, "Hidden classes are not supported by this runtime");
+            throw e;
+        }
+
+        final Object options = Array.newInstance(optionType, 0);
+        final Method defineHiddenClass = MethodHandles.Lookup.class.getMethod("defineHiddenClass", byte[].class,
+                boolean.class, options.getClass());
+        final MethodHandles.Lookup lookup = (MethodHandles.Lookup) defineHiddenClass.invoke(MethodHandles.lookup(),
+                generateClassFile(internalName), true, options);
+
+        return lookup.lookupClass();
+    }
+
+    /**
+     * 引数として渡された {@code internalName} を名前とし、メンバを持たないクラスのクラスファイルを生成し返却します。
+     *
+     * @param internalName クラスの内部名
+     * @return クラスファイルの内容
+     *
+     * @throws IOException クラスファイルの生成に失敗した場合
+     */
+    private static byte[] generateClassFile(final String internalName) throws IOException {
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            // マジックナンバーとバージョン (Java 11)
+            output.writeInt(0xCAFEBABE);
+            output.writeShort(0);
+            output.writeShort(55);
+
+            // 定数プール: #1 自身のクラス、#2 自身の内部名、#3 親クラス、#4 親クラスの内部名
+            output.writeShort(5);
+            output.writeByte(7);
+            output.writeShort(2);
+            output.writeByte(1);
+            output.writeUTF(internalName);
+            output.writeByte(7);
+            output.writeShort(4);
+            output.writeByte(1);
+            output.writeUTF("java/lang/Object");
+
+            // ACC_PUBLIC | ACC_FINAL | ACC_SUPER、自身のクラス、親クラス
+            output.writeShort(0x0031);
+            output.writeShort(1);
+            output.writeShort(3);
+
+            // インタフェース、フィールド、メソッドおよび属性は持たない
+            output.writeShort(0);
+            output.writeShort(0);
+            output.writeShort(0);
+            output.writeShort(0);
+        }
+
+        return bytes.toByteArray();
+    }
+
+    /**
+     * {@link CodeSource} の領域とクラスリソースの領域が異なるクラスを定義するクラスローダーです。
+     * <p>
+     * クラスリソースの領域が指定されない場合、クラスリソースは存在しないものとして扱います。
+     */
+    private static final class SplitLocationClassLoader extends ClassLoader {
+
+        /**
+         * クラスリソース名
+         */
+        private final String resourceName = DEFINED_CLASS_NAME + ".class";
+
+        /**
+         * クラスリソースのURL。クラスリソースが存在しない場合は {@code null}
+         */
+        private final URL resource;
+
+        /**
+         * コンストラクタ
+         *
+         * @param resourceRoot クラスリソースの領域。クラスリソースが存在しない場合は {@code null}
+         *
+         * @throws MalformedURLException URLの生成に失敗した場合
+         */
+        SplitLocationClassLoader(final String resourceRoot) throws MalformedURLException {
+            super(null);
+            this.resource = resourceRoot == null ? null : new URL(resourceRoot + this.resourceName);
+        }
+
+        /**
+         * {@link #CODE_SOURCE_ROOT} を {@link CodeSource} の領域とするクラスを定義し返却します。
+         *
+         * @return 定義されたクラス
+         *
+         * @throws IOException クラスファイルの生成に失敗した場合
+         */
+        Class<?> define() throws IOException {
+
+            final byte[] classFile = generateClassFile(DEFINED_CLASS_NAME);
+            final CodeSource codeSource = new CodeSource(new URL(CODE_SOURCE_ROOT), (Certificate[]) null);
+
+            return super.defineClass(DEFINED_CLASS_NAME.replace('/', '.'), classFile, 0, classFile.length,
+                    new ProtectionDomain(codeSource, null));
+        }
+
+        @Override
+        public URL getResource(final String name) {
+            return this.resourceName.equals(name) ? this.resource : null;
+        }
+    }
+
+    /**
+     * {@code "com/example/Hoge.class"} のクラスリソースとして指定されたURLを返却するクラスローダーです。
+     */
+    private static final class SingleResourceClassLoader extends ClassLoader {
+
+        /**
+         * クラスリソースのURL
+         */
+        private final URL resource;
+
+        /**
+         * コンストラクタ
+         *
+         * @param resource クラスリソースのURL
+         */
+        SingleResourceClassLoader(final URL resource) {
+            super(null);
+            this.resource = resource;
+        }
+
+        @Override
+        public URL getResource(final String name) {
+            return "com/example/Hoge.class".equals(name) ? this.resource : null;
+        }
+    }
+
+    /**
+     * 標準のプロトコルハンドラーが存在しないスキームのURLを生成するための、接続を提供しないプロトコルハンドラーです。
+     */
+    private static final class UnsupportedUrlStreamHandler extends URLStreamHandler {
+
+        @Override
+        protected URLConnection openConnection(final URL url) throws IOException {
+            throw new IOException(String.format("Connection is not supported: %s", url));
+        }
+    }
+}
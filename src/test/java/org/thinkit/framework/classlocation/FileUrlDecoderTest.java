@@ -0,0 +1,148 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.classlocation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.net.URI;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * {@link FileUrlDecoder} クラスのファイルシステム上のパスへの変換を検証するテストクラスです。
+ * <p>
+ * 変換結果は {@link File#File(URI)} および {@link Paths#get(URI)} による変換結果と比較します。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+final class FileUrlDecoderTest {
+
+    /**
+     * パーセントエンコーディングされたパスが {@link File#File(URI)} と同じパスへ復号されることを検証します。
+     *
+     * @param externalForm 領域の外部表現
+     */
+    @ParameterizedTest
+    @ValueSource(strings = {
+            // 復号が不要なパス
+            "file:/root/classes/", "file:///root/classes/", "file:/root/app.jar",
+            // 1バイトの文字
+            "file:/root/my%20classes/", "file:/root/100%25/", "file:/root/%5Bbracket%5D/app.jar",
+            // 複数バイトの文字
+            "file:/root/%E3%82%AF%E3%83%A9%E3%82%B9/", "file:/root/caf%C3%A9%20%F0%9F%98%80/app.jar",
+            // 小文字の16進数
+            "file:/root/%e3%82%af/" })
+    void testToFileDecodesLikeUri(final String externalForm) {
+        assertEquals(new File(URI.create(externalForm)), FileUrlDecoder.toFile(Location.parse(externalForm)));
+    }
+
+    /**
+     * 複数バイトの文字が1文字ずつではなくUTF-8のバイト列として復号されることを検証します。
+     */
+    @Test
+    void testToFileDecodesMultiByteUtf8() {
+        assertEquals(new File("/root/クラス/café 😀"), FileUrlDecoder
+                .toFile(Location.parse("file:/root/%E3%82%AF%E3%83%A9%E3%82%B9/caf%C3%A9%20%F0%9F%98%80")));
+    }
+
+    /**
+     * {@code "file"} スキームの領域が {@link Paths#get(URI)} と同じパスへ変換されることを検証します。
+     * <p>
+     * 実行環境のファイル名の文字コードに依存しないよう、ASCII文字のみのパスで検証します。
+     *
+     * @param externalForm 領域の外部表現
+     */
+    @ParameterizedTest
+    @ValueSource(strings = { "file:/root/classes/", "file:///root/classes/", "file:/root/my%20classes/" })
+    void testToPathDecodesLikeUri(final String externalForm) {
+        assertEquals(Paths.get(URI.create(externalForm)), FileUrlDecoder.toPath(Location.parse(externalForm)));
+    }
+
+    /**
+     * 不正なエスケープシーケンスが含まれている場合に {@link InvalidClassLocationException} が送出されることを検証します。
+     *
+     * @param externalForm 領域の外部表現
+     */
+    @ParameterizedTest
+    @ValueSource(strings = { "file:/root/bad%2/", "file:/root/bad%", "file:/root/bad%zz/" })
+    void testToFileRejectsMalformedEscape(final String externalForm) {
+        assertThrows(InvalidClassLocationException.class, () -> FileUrlDecoder.toFile(Location.parse(externalForm)));
+    }
+
+    /**
+     * Windows環境でホスト名を含むUNC形式の領域が共有フォルダのパスへ変換されることを検証します。
+     */
+    @Test
+    @EnabledOnOs(OS.WINDOWS)
+    void testToFileConvertsUncPathOnWindows() {
+        assertEquals(new File("\\\\host\\share\\classes"),
+                FileUrlDecoder.toFile(Location.parse("file://host/share/classes/")));
+    }
+
+    /**
+     * Windows以外の環境でホスト名を含むUNC形式の領域を変換した場合に {@link InvalidClassLocationException} が送出されることを検証します。
+     */
+    @Test
+    @DisabledOnOs(OS.WINDOWS)
+    void testToFileRejectsUncPathOnOtherPlatforms() {
+        assertThrows(InvalidClassLocationException.class,
+                () -> FileUrlDecoder.toFile(Location.parse("file://host/share/classes/")));
+    }
+
+    /**
+     * {@code "file"} スキーム以外の領域が、スキームに対応する {@link java.nio.file.FileSystem} のパスへ変換されることを検証します。
+     */
+    @Test
+    void testToPathFallsBackToFileSystem() {
+
+        final Path path = FileUrlDecoder.toPath(Location.parse("jrt:/java.base/java/lang/Object.class"));
+
+        assertEquals("jrt", path.getFileSystem().provider().getScheme());
+        assertTrue(path.endsWith("java/lang/Object.class"), () -> path.toString());
+    }
+
+    /**
+     * スキームに対応する {@link java.nio.file.FileSystem} が存在しない場合に {@link InvalidClassLocationException} が送出されることを検証します。
+     */
+    @Test
+    void testToPathRejectsUnknownFileSystem() {
+        assertThrows(InvalidClassLocationException.class,
+                () -> FileUrlDecoder.toPath(Location.parse("jar:nested:/root/app.jar/!BOOT-INF/classes/!/")));
+    }
+
+    /**
+     * {@code "file"} スキーム以外の領域および入れ子のアーカイブを {@link File} へ変換した場合に
+     * {@link InvalidClassLocationException} が送出されることを検証します。
+     *
+     * @param externalForm 領域の外部表現
+     */
+    @ParameterizedTest
+    @ValueSource(strings = { "jrt:/java.base", "jar:file:/root/app.jar!/BOOT-INF/lib/dep.jar!/" })
+    void testToFileRejectsNonFileLocation(final String externalForm) {
+        assertThrows(InvalidClassLocationException.class, () -> FileUrlDecoder.toFile(Location.parse(externalForm)));
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.classlocation;
+
+import java.net.URL;
+import java.util.Set;
+
+import org.thinkit.framework.classlocation.spi.LocationResolver;
+
+/**
+ * 全てのクラスリソースを {@link #RESOLVED} へ解決するテスト用の {@link LocationResolver} です。
+ * <p>
+ * {@code "jar"} スキームを登録することで、組み込みの内側のスキームを持つ {@code jar:} のURLが委譲されないことを検証できます。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+public final class FixedLocationResolver implements LocationResolver {
+
+    /**
+     * 解決先の領域の外部表現
+     */
+    static final String RESOLVED = "vfs:/resolved/";
+
+    @Override
+    public Set<String> getSchemes() {
+        return Set.of("jar", "vfs");
+    }
+
+    @Override
+    public Location resolve(final URL classResource, final String resourceName) {
+        return Location.parse(RESOLVED);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.classlocation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * {@link FrequencySketch} クラスの参照頻度の記録と半減を検証するテストクラスです。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+final class FrequencySketchTest {
+
+    /**
+     * 頻繁に記録するハッシュ値
+     */
+    private static final int HOT = "com.example.Hot".hashCode();
+
+    /**
+     * 参照頻度が計数器の上限で飽和することを検証します。
+     */
+    @Test
+    void testFrequencySaturates() {
+
+        final FrequencySketch sketch = new FrequencySketch(16);
+
+        for (int i = 0; i < 20; i++) {
+            sketch.increment(HOT);
+        }
+
+        assertEquals(15, sketch.frequency(HOT));
+    }
+
+    /**
+     * 記録回数が上限エントリ数の10倍に達した時点で参照頻度が半減することを検証します。
+     */
+    @Test
+    void testFrequencyIsHalvedAfterSampleSize() {
+
+        final FrequencySketch sketch = new FrequencySketch(16);
+
+        for (int i = 0; i < 15; i++) {
+            sketch.increment(HOT);
+        }
+
+        // 上限エントリ数16の10倍である160回目の記録で半減する
+        for (int i = 1; i < 160 - 15; i++) {
+            sketch.increment(i);
+        }
+
+        assertEquals(15, sketch.frequency(HOT));
+
+        sketch.increment(160);
+
+        assertEquals(7, sketch.frequency(HOT));
+    }
+}
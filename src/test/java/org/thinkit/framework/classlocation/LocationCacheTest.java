@@ -0,0 +1,400 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.classlocation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.thinkit.framework.classlocation.catalog.EvictionPolicy;
+import org.thinkit.framework.classlocation.catalog.FailureReason;
+
+/**
+ * {@link LocationCache} クラスの解決結果の保持と破棄を検証するテストクラスです。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+final class LocationCacheTest {
+
+    /**
+     * 検索対象クラスのバイナリ名
+     */
+    private static final String BINARY_NAME = "com.example.Hoge";
+
+    /**
+     * クラスリソースが格納されている領域
+     */
+    private static final String ROOT = "file:/root/classes/";
+
+    /**
+     * 解決に失敗した結果
+     */
+    private static final LocationResult FAILURE = LocationResult.failure(FailureReason.CLASS_RESOURCE_NOT_FOUND,
+            BINARY_NAME);
+
+    /**
+     * 解決に成功した結果
+     */
+    private static final LocationResult SUCCESS = LocationResult.success(Location.parse(ROOT));
+
+    /**
+     * テスト前の解決に失敗した結果をキャッシュする期間
+     */
+    private Duration negativeCacheTtl;
+
+    /**
+     * テスト前のキャッシュのエントリ数の上限
+     */
+    private int maxCacheEntries;
+
+    /**
+     * テスト前のキャッシュから取り除くエントリの選択方針
+     */
+    private EvictionPolicy cacheEvictionPolicy;
+
+    /**
+     * テスト前の設定値を退避し、キャッシュを空にします。
+     */
+    @BeforeEach
+    void setUp() {
+        this.negativeCacheTtl = ClassLocationSettings.getNegativeCacheTtl();
+        this.maxCacheEntries = ClassLocationSettings.getMaxCacheEntries();
+        this.cacheEvictionPolicy = ClassLocationSettings.getCacheEvictionPolicy();
+        LocationCache.clear();
+    }
+
+    /**
+     * テスト前の設定値を復元し、キャッシュを空にします。
+     */
+    @AfterEach
+    void tearDown() {
+        ClassLocationSettings.setNegativeCacheTtl(this.negativeCacheTtl);
+        ClassLocationSettings.setMaxCacheEntries(this.maxCacheEntries);
+        ClassLocationSettings.setCacheEvictionPolicy(this.cacheEvictionPolicy);
+    }
+
+    /**
+     * いずれの選択方針でもエントリ数が上限を超えず、超過した分が取り除かれたエントリとして集計されることを検証します。
+     *
+     * @param policy キャッシュから取り除くエントリの選択方針
+     */
+    @ParameterizedTest
+    @EnumSource(EvictionPolicy.class)
+    void testSizeIsBounded(final EvictionPolicy policy) {
+
+        final ClassLoader loader = new ToggleResourceClassLoader();
+        ClassLocationSettings.setMaxCacheEntries(100);
+        ClassLocationSettings.setCacheEvictionPolicy(policy);
+
+        final long evictions = LocationCache.evictionCount();
+
+        for (int i = 0; i < 1000; i++) {
+            LocationCache.put(loader, "com.example.Hoge" + i, true, SUCCESS);
+            assertTrue(LocationCache.size() <= 100);
+        }
+
+        assertEquals(100, LocationCache.size());
+        assertEquals(900, LocationCache.evictionCount() - evictions);
+    }
+
+    /**
+     * {@link EvictionPolicy#LRU} の場合、参照されたエントリが取り除かれずに最も長く参照されていないエントリが取り除かれることを検証します。
+     */
+    @Test
+    void testLruEvictsLeastRecentlyAccessed() {
+
+        final ClassLoader loader = new ToggleResourceClassLoader();
+        ClassLocationSettings.setMaxCacheEntries(3);
+        ClassLocationSettings.setCacheEvictionPolicy(EvictionPolicy.LRU);
+
+        LocationCache.put(loader, "com.example.A", true, SUCCESS);
+        LocationCache.put(loader, "com.example.B", true, SUCCESS);
+        LocationCache.put(loader, "com.example.C", true, SUCCESS);
+
+        assertSame(SUCCESS, LocationCache.get(loader, "com.example.A", true));
+
+        LocationCache.put(loader, "com.example.D", true, SUCCESS);
+
+        assertNull(LocationCache.get(loader, "com.example.B", true));
+        assertSame(SUCCESS, LocationCache.get(loader, "com.example.A", true));
+        assertSame(SUCCESS, LocationCache.get(loader, "com.example.C", true));
+        assertSame(SUCCESS, LocationCache.get(loader, "com.example.D", true));
+    }
+
+    /**
+     * {@link EvictionPolicy#TINY_LFU} の場合、一度しか検索されないエントリが頻繁に参照されるエントリを押し出さずに取り除かれることを検証します。
+     */
+    @Test
+    void testTinyLfuRejectsOneOffCandidate() {
+
+        final ClassLoader loader = new ToggleResourceClassLoader();
+        ClassLocationSettings.setMaxCacheEntries(100);
+        ClassLocationSettings.setCacheEvictionPolicy(EvictionPolicy.TINY_LFU);
+
+        for (int i = 0; i < 99; i++) {
+            LocationCache.put(loader, "com.example.Hot" + i, true, SUCCESS);
+        }
+
+        for (int count = 0; count < 5; count++) {
+            for (int i = 0; i < 99; i++) {
+                assertSame(SUCCESS, LocationCache.get(loader, "com.example.Hot" + i, true));
+            }
+        }
+
+        for (int i = 0; i < 3; i++) {
+            LocationCache.put(loader, "com.example.OneOff" + i, true, SUCCESS);
+        }
+
+        for (int i = 0; i < 99; i++) {
+            assertSame(SUCCESS, LocationCache.get(loader, "com.example.Hot" + i, true), "com.example.Hot" + i);
+        }
+
+        assertNull(LocationCache.get(loader, "com.example.OneOff0", true));
+        assertNull(LocationCache.get(loader, "com.example.OneOff1", true));
+        assertEquals(100, LocationCache.size());
+    }
+
+    /**
+     * 回収されたクラスローダーに紐づく解決結果が取り除かれ、取り除かれたエントリとして集計されることを検証します。
+     *
+     * @throws InterruptedException 待機中に割り込まれた場合
+     */
+    @Test
+    void testCollectedLoaderEntriesAreExpunged() throws InterruptedException {
+
+        final long evictions = LocationCache.evictionCount();
+        putForCollectableLoader(3);
+
+        for (int i = 0; i < 100 && LocationCache.evictionCount() - evictions < 3; i++) {
+            System.gc();
+            Thread.sleep(10);
+            LocationCache.put(null, BINARY_NAME, true, SUCCESS);
+        }
+
+        assertEquals(3, LocationCache.evictionCount() - evictions);
+        assertEquals(1, LocationCache.size());
+    }
+
+    /**
+     * 解決に失敗した結果が期間内は保持され、期間の経過後は破棄されることを検証します。
+     *
+     * @throws InterruptedException 待機中に割り込まれた場合
+     */
+    @Test
+    void testFailureExpiresAfterTtl() throws InterruptedException {
+
+        final ClassLoader loader = new ToggleResourceClassLoader();
+        ClassLocationSettings.setNegativeCacheTtl(Duration.ofMillis(200));
+
+        final long start = System.nanoTime();
+        LocationCache.put(loader, BINARY_NAME, true, FAILURE);
+
+        if (System.nanoTime() - start < Duration.ofMillis(200).toNanos()) {
+            assertSame(FAILURE, LocationCache.get(loader, BINARY_NAME, true));
+        }
+
+        Thread.sleep(250);
+
+        assertNull(LocationCache.get(loader, BINARY_NAME, true));
+        assertEquals(0, LocationCache.size());
+    }
+
+    /**
+     * 解決に失敗した結果が期間内は検索に使用され、クラスローダーの探索が行われないことを検証します。
+     */
+    @Test
+    void testCachedFailureSkipsProbe() {
+
+        final ToggleResourceClassLoader loader = new ToggleResourceClassLoader();
+        ClassLocationSettings.setNegativeCacheTtl(Duration.ofMinutes(1));
+
+        assertFalse(ClassLocation.of(BINARY_NAME, loader).tryLocate().isSuccess());
+
+        loader.enable();
+
+        assertFalse(ClassLocation.of(BINARY_NAME, loader).tryLocate().isSuccess());
+    }
+
+    /**
+     * 期間に {@link Duration#ZERO} を設定した場合、解決に失敗した結果が保持されず毎回クラスローダーを探索することを検証します。
+     */
+    @Test
+    void testZeroTtlReprobes() {
+
+        final ToggleResourceClassLoader loader = new ToggleResourceClassLoader();
+        ClassLocationSettings.setNegativeCacheTtl(Duration.ZERO);
+
+        LocationCache.put(loader, BINARY_NAME, true, FAILURE);
+        assertNull(LocationCache.get(loader, BINARY_NAME, true));
+
+        assertFalse(ClassLocation.of(BINARY_NAME, loader).tryLocate().isSuccess());
+
+        loader.enable();
+        final LocationResult result = ClassLocation.of(BINARY_NAME, loader).tryLocate();
+
+        assertTrue(result.isSuccess(), () -> result.toString());
+        assertEquals(ROOT, result.locationOrElseThrow().toUrl().toString());
+    }
+
+    /**
+     * {@link LocationCache#invalidateFailures(ClassLoader)} が指定したクラスローダーに紐づく解決に失敗した結果のみを破棄することを検証します。
+     */
+    @Test
+    void testInvalidateFailuresOfLoader() {
+
+        final ClassLoader loader = new ToggleResourceClassLoader();
+        final ClassLoader other = new ToggleResourceClassLoader();
+        ClassLocationSettings.setNegativeCacheTtl(Duration.ofMinutes(1));
+
+        LocationCache.put(loader, BINARY_NAME, true, FAILURE);
+        LocationCache.put(loader, "com.example.Fuga", true, SUCCESS);
+        LocationCache.put(other, BINARY_NAME, true, FAILURE);
+
+        LocationCache.invalidateFailures(loader);
+
+        assertNull(LocationCache.get(loader, BINARY_NAME, true));
+        assertSame(SUCCESS, LocationCache.get(loader, "com.example.Fuga", true));
+        assertSame(FAILURE, LocationCache.get(other, BINARY_NAME, true));
+    }
+
+    /**
+     * {@link LocationCache#invalidateFailures()} がブートストラップクラスローダーを含む全てのクラスローダーに紐づく
+     * 解決に失敗した結果を破棄することを検証します。
+     */
+    @Test
+    void testInvalidateAllFailures() {
+
+        final ClassLoader loader = new ToggleResourceClassLoader();
+        final ClassLoader other = new ToggleResourceClassLoader();
+        ClassLocationSettings.setNegativeCacheTtl(Duration.ofMinutes(1));
+
+        LocationCache.put(loader, BINARY_NAME, true, FAILURE);
+        LocationCache.put(other, BINARY_NAME, true, FAILURE);
+        LocationCache.put(null, BINARY_NAME, true, FAILURE);
+        LocationCache.put(other, "com.example.Fuga", true, SUCCESS);
+
+        LocationCache.invalidateFailures();
+
+        assertNull(LocationCache.get(loader, BINARY_NAME, true));
+        assertNull(LocationCache.get(other, BINARY_NAME, true));
+        assertNull(LocationCache.get(null, BINARY_NAME, true));
+        assertSame(SUCCESS, LocationCache.get(other, "com.example.Fuga", true));
+        assertEquals(1, LocationCache.size());
+    }
+
+    /**
+     * 上限を超える期間が上限に切り詰められ、解決に失敗した結果が桁あふれにより即座に期限切れとならないことを検証します。
+     */
+    @Test
+    void testNegativeCacheTtlIsClamped() {
+
+        final ClassLoader loader = new ToggleResourceClassLoader();
+        final Duration max = Duration.ofMillis(ClassLocationSettings.MAX_NEGATIVE_CACHE_TTL_MILLIS);
+
+        ClassLocationSettings.setNegativeCacheTtl(Duration.ofSeconds(Long.MAX_VALUE));
+        assertEquals(max, ClassLocationSettings.getNegativeCacheTtl());
+
+        ClassLocationSettings.setNegativeCacheTtl(Duration.ofMillis(Long.MAX_VALUE));
+        assertEquals(max, ClassLocationSettings.getNegativeCacheTtl());
+
+        LocationCache.put(loader, BINARY_NAME, true, FAILURE);
+        assertSame(FAILURE, LocationCache.get(loader, BINARY_NAME, true));
+    }
+
+    /**
+     * 負の期間を設定した場合に {@link IllegalArgumentException} が送出されることを検証します。
+     */
+    @Test
+    void testNegativeCacheTtlRejectsNegativeDuration() {
+        assertThrows(IllegalArgumentException.class,
+                () -> ClassLocationSettings.setNegativeCacheTtl(Duration.ofMillis(-1)));
+    }
+
+    /**
+     * 到達不能となるクラスローダーに紐づく解決結果を {@code entries} 件保持します。
+     *
+     * @param entries 保持する解決結果の数
+     */
+    private static void putForCollectableLoader(final int entries) {
+
+        final ClassLoader loader = new ToggleResourceClassLoader();
+
+        for (int i = 0; i < entries; i++) {
+            LocationCache.put(loader, "com.example.Hoge" + i, true, SUCCESS);
+        }
+
+        assertEquals(entries, LocationCache.size());
+    }
+
+    /**
+     * {@link #BINARY_NAME} のクラスリソースを、有効化された後にのみ {@link #ROOT} 配下のURLとして返却するクラスローダーです。
+     */
+    private static final class ToggleResourceClassLoader extends ClassLoader {
+
+        /**
+         * クラスリソース名
+         */
+        private final String resourceName = BINARY_NAME.replace('.', '/') + ".class";
+
+        /**
+         * クラスリソースのURL
+         */
+        private final URL resource;
+
+        /**
+         * クラスリソースを返却するか
+         */
+        private volatile boolean enabled;
+
+        /**
+         * コンストラクタ
+         */
+        ToggleResourceClassLoader() {
+            super(null);
+
+            try {
+                this.resource = new URL(ROOT + this.resourceName);
+            } catch (MalformedURLException e) {
+                throw new IllegalArgumentException(e);
+            }
+        }
+
+        /**
+         * クラスリソースの返却を有効化します。
+         */
+        void enable() {
+            this.enabled = true;
+        }
+
+        @Override
+        public URL getResource(final String name) {
+            return this.enabled && this.resourceName.equals(name) ? this.resource : null;
+        }
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.classlocation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.net.URI;
+import java.net.URL;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * {@link Location} クラスの外部表現の解析を検証するテストクラスです。
+ * <p>
+ * 解析対象の外部表現は {@link URL#toExternalForm()} および {@link URI#toString()} により生成し、
+ * 実際にクラスローダーから取得される形式で検証します。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+final class LocationTest {
+
+    /**
+     * 標準のプロトコルハンドラーで {@link URL} を生成できる外部表現と、その解析結果の組み合わせを返却します。
+     * <p>
+     * 各要素は外部表現、スキーム、パス、エントリ、解析後の外部表現および外側のアーカイブの外部表現の順に並びます。
+     *
+     * @return 外部表現と解析結果の組み合わせ
+     */
+    static Stream<Arguments> builtInSchemes() {
+        return Stream.of(
+                // ディレクトリとアーカイブ
+                Arguments.of("file:/root/classes/", "file", "/root/classes/", null, "file:/root/classes/",
+                        "file:/root/classes/"),
+                Arguments.of("file:/root/app.jar", "file", "/root/app.jar", null, "file:/root/app.jar",
+                        "file:/root/app.jar"),
+                Arguments.of("file:/root/my%20classes/", "file", "/root/my%20classes/", null,
+                        "file:/root/my%20classes/", "file:/root/my%20classes/"),
+                Arguments.of("jar:file:/root/app.jar!/", "file", "/root/app.jar", null, "file:/root/app.jar",
+                        "file:/root/app.jar"),
+
+                // 入れ子のアーカイブ
+                Arguments.of("jar:file:/root/app.jar!/BOOT-INF/lib/dep.jar!/", "file", "/root/app.jar",
+                        "BOOT-INF/lib/dep.jar", "jar:file:/root/app.jar!/BOOT-INF/lib/dep.jar", "file:/root/app.jar"),
+                Arguments.of("jar:file:/root/app.jar!/BOOT-INF/classes!/", "file", "/root/app.jar", "BOOT-INF/classes",
+                        "jar:file:/root/app.jar!/BOOT-INF/classes", "file:/root/app.jar"),
+                Arguments.of("jar:file:/root/app.jar!/BOOT-INF/classes/", "file", "/root/app.jar", "BOOT-INF/classes",
+                        "jar:file:/root/app.jar!/BOOT-INF/classes", "file:/root/app.jar"),
+
+                // モジュール
+                Arguments.of("jrt:/java.base/", "jrt", "/java.base", null, "jrt:/java.base", "jrt:/java.base"),
+                Arguments.of("jrt:/java.base", "jrt", "/java.base", null, "jrt:/java.base", "jrt:/java.base"));
+    }
+
+    /**
+     * 全ての外部表現と、その解析結果の組み合わせを返却します。
+     * <p>
+     * {@code jar:nested:} のように標準のプロトコルハンドラーが存在しない形式を含みます。
+     *
+     * @return 外部表現と解析結果の組み合わせ
+     */
+    static Stream<Arguments> allSchemes() {
+        return Stream.concat(builtInSchemes(), Stream.of(
+                // 独自の入れ子形式は内側のスキームの領域として解析する
+                Arguments.of("jar:nested:/root/app.jar/!BOOT-INF/classes/!/", "nested",
+                        "/root/app.jar/!BOOT-INF/classes/", null, "nested:/root/app.jar/!BOOT-INF/classes/",
+                        "nested:/root/app.jar/!BOOT-INF/classes/"),
+                Arguments.of("jar:nested:/root/app.jar/!BOOT-INF/lib/dep.jar!/", "nested",
+                        "/root/app.jar/!BOOT-INF/lib/dep.jar", null, "nested:/root/app.jar/!BOOT-INF/lib/dep.jar",
+                        "nested:/root/app.jar/!BOOT-INF/lib/dep.jar")));
+    }
+
+    /**
+     * {@link URL#toExternalForm()} が返却する外部表現を解析できることを検証します。
+     *
+     * @param spec         外部表現
+     * @param scheme       スキーム
+     * @param path         パス
+     * @param entry        エントリ。入れ子のアーカイブではない場合は {@code null}
+     * @param externalForm 解析後の外部表現
+     * @param archive      外側のアーカイブの外部表現
+     *
+     * @throws Exception {@link URL} の生成に失敗した場合
+     */
+    @ParameterizedTest
+    @MethodSource("builtInSchemes")
+    void testParseUrlExternalForm(final String spec, final String scheme, final String path, final String entry,
+            final String externalForm, final String archive) throws Exception {
+        assertLocation(Location.parse(new URL(spec).toExternalForm()), scheme, path, entry, externalForm, archive);
+    }
+
+    /**
+     * {@link URI#toString()} が返却する外部表現を解析できることを検証します。
+     *
+     * @param spec         外部表現
+     * @param scheme       スキーム
+     * @param path         パス
+     * @param entry        エントリ。入れ子のアーカイブではない場合は {@code null}
+     * @param externalForm 解析後の外部表現
+     * @param archive      外側のアーカイブの外部表現
+     *
+     * @throws Exception {@link URI} の生成に失敗した場合
+     */
+    @ParameterizedTest
+    @MethodSource("allSchemes")
+    void testParseUriString(final String spec, final String scheme, final String path, final String entry,
+            final String externalForm, final String archive) throws Exception {
+        assertLocation(Location.parse(new URI(spec).toString()), scheme, path, entry, externalForm, archive);
+    }
+
+    /**
+     * 正規化済みの {@link URL} から生成した領域が、同一の {@link URL} を返却することを検証します。
+     *
+     * @throws Exception {@link URL} の生成に失敗した場合
+     */
+    @Test
+    void testOfKeepsNormalizedUrl() throws Exception {
+
+        final URL url = new URL("file:/root/classes/");
+
+        assertSame(url, Location.of(url).toUrl());
+    }
+
+    /**
+     * 入れ子のアーカイブの外側のアーカイブが同一のインスタンスとして返却されることを検証します。
+     */
+    @Test
+    void testGetArchiveIsCached() {
+
+        final Location location = Location.parse("jar:file:/root/app.jar!/BOOT-INF/lib/dep.jar!/");
+
+        assertSame(location.getArchive(), location.getArchive());
+        assertSame(location.getArchive(), location.getArchive().getArchive());
+    }
+
+    /**
+     * スキームが含まれていない外部表現を解析した場合に {@link IllegalArgumentException} が送出されることを検証します。
+     */
+    @Test
+    void testParseRejectsMissingScheme() {
+        assertThrows(IllegalArgumentException.class, () -> Location.parse("/root/classes/"));
+        assertThrows(IllegalArgumentException.class, () -> Location.parse("jar:/root/app.jar!/"));
+    }
+
+    /**
+     * 引数として渡された {@code location} の解析結果を検証します。
+     *
+     * @param location     検証する領域
+     * @param scheme       スキーム
+     * @param path         パス
+     * @param entry        エントリ。入れ子のアーカイブではない場合は {@code null}
+     * @param externalForm 解析後の外部表現
+     * @param archive      外側のアーカイブの外部表現
+     */
+    private static void assertLocation(final Location location, final String scheme, final String path,
+            final String entry, final String externalForm, final String archive) {
+        assertEquals(scheme, location.getScheme());
+        assertEquals(path, location.getPath());
+        assertEquals(Optional.ofNullable(entry), location.getEntry());
+        assertEquals(entry != null, location.isNested());
+        assertEquals(externalForm, location.toString());
+        assertEquals(archive, location.getArchive().toString());
+        assertEquals(location, Location.parse(externalForm));
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2020 Kato Shinya.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied. See the License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+package org.thinkit.framework.classlocation;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.thinkit.framework.classlocation.catalog.PathPrefix;
+
+/**
+ * {@link PackageScanner} クラスのパッケージに属するクラスの列挙を検証するテストクラスです。
+ *
+ * @author Kato Shinya
+ * @since 1.0
+ * @version 1.0
+ */
+final class PackageScannerTest {
+
+    /**
+     * パッケージ直下のクラスのみがバイナリ名として列挙されることを検証します。
+     */
+    @Test
+    void testScanListsDirectChildren() {
+
+        final List<String> binaryNames = PackageScanner.scan(List.of(PathPrefix.class.getPackageName()),
+                PackageScannerTest.class.getClassLoader());
+
+        assertTrue(binaryNames.contains(PathPrefix.class.getName()), () -> binaryNames.toString());
+        assertFalse(binaryNames.contains(ClassLocation.class.getName()), () -> binaryNames.toString());
+    }
+
+    /**
+     * 空のパッケージ名を渡した場合に {@link IllegalArgumentException} が送出されることを検証します。
+     */
+    @Test
+    void testScanRejectsEmptyPackageName() {
+        assertThrows(IllegalArgumentException.class,
+                () -> PackageScanner.scan(List.of(""), PackageScannerTest.class.getClassLoader()));
+    }
+
+    /**
+     * 空のパッケージ名を渡した場合に、列挙を開始する前に {@link IllegalArgumentException} が送出されることを検証します。
+     */
+    @Test
+    void testWarmUpPackagesRejectsEmptyPackageName() {
+        assertThrows(IllegalArgumentException.class, () -> ClassLocationWarmer.warmUpPackages(List.of(""),
+                PackageScannerTest.class.getClassLoader(), Runnable::run));
+    }
+}